@@ -91,7 +91,9 @@ export function useBookingState() {
     // Update booking
     const updateBooking = useCallback(async (id, updates) => {
         try {
-            const updatedBooking = await bookingService.update(id, updates);
+            // Based on the version we displayed, so a concurrent edit is reported instead of overwritten
+            const current = bookings.find(b => b.id === id);
+            const updatedBooking = await bookingService.update(id, updates, current?.version);
 
             setBookings(prev => prev.map(b =>
                 b.id === id ? {
@@ -107,7 +109,7 @@ export function useBookingState() {
             console.error(err);
             toastError("อัปเดตไม่สำเร็จ: " + err.message);
         }
-    }, []);
+    }, [bookings]);
 
     // Delete booking
     const deleteBooking = useCallback(async (id) => {
@@ -125,7 +127,7 @@ export function useBookingState() {
     const addYacht = useCallback(async (yachtData) => {
         try {
             const newYacht = await yachtService.create(yachtData);
-            setYachts(prev => [...prev, newYacht]);
+            setYachts(prev => [...prev, { ...newYacht, dateOverrides: yachtData.dateOverrides || {} }]);
             success("เพิ่มเรือลำใหม่เรียบร้อย");
             return newYacht;
         } catch (err) {
@@ -135,16 +137,26 @@ export function useBookingState() {
     }, []);
 
     // Update yacht
+    // dateOverrides are saved per date through the overrides endpoints, other fields via PATCH
     const updateYacht = useCallback(async (id, updates) => {
         try {
-            const updatedYacht = await yachtService.update(id, updates);
-            setYachts(prev => prev.map(y => y.id === id ? updatedYacht : y));
+            const { dateOverrides, ...fields } = updates;
+            const current = yachts.find(y => y.id === id);
+            let updatedYacht = current;
+            if (Object.keys(fields).length > 0) {
+                updatedYacht = await yachtService.update(id, fields);
+            }
+            let overrides = current?.dateOverrides || {};
+            if (dateOverrides) {
+                overrides = await yachtService.saveOverrides(id, overrides, dateOverrides);
+            }
+            setYachts(prev => prev.map(y => y.id === id ? { ...updatedYacht, dateOverrides: overrides } : y));
             success("แก้ไขข้อมูลเรือสำเร็จ");
         } catch (err) {
             console.error(err);
             toastError("แก้ไขข้อมูลเรือไม่สำเร็จ");
         }
-    }, []);
+    }, [yachts]);
 
     // Delete yacht
     const deleteYacht = useCallback(async (id) => {
@@ -33,8 +33,23 @@ export const parseDateSafe = (dateStr) => {
 };
 
 export const bookingService = {
-    getAll: async () => {
-        const response = await fetch(`${API_CONFIG.BASE_URL}/bookings`);
+    /**
+     * Fetch one page of bookings (server-side filtering + keyset pagination)
+     * @param {Object} filters - { from, to, yachtId, status } (all optional)
+     * @param {string|null} cursor - nextCursor from the previous page
+     * @param {number} limit - Page size (server caps at 500)
+     * @returns {Promise<{items: Array, nextCursor: string|null}>}
+     */
+    getPage: async (filters = {}, cursor = null, limit = 500) => {
+        const params = new URLSearchParams();
+        Object.entries(filters).forEach(([key, value]) => {
+            if (value === null || value === undefined || value === '') return;
+            params.set(key, value instanceof Date ? toDateString(value) : value);
+        });
+        if (cursor) params.set('cursor', cursor);
+        params.set('limit', limit);
+
+        const response = await fetch(`${API_CONFIG.BASE_URL}/bookings?${params.toString()}`);
         if (!response.ok) {
             const message = await extractErrorMessage(response, 'Failed to fetch bookings');
             throw new Error(message);
@@ -42,6 +57,18 @@ export const bookingService = {
         return response.json();
     },
 
+    // Fetch every booking matching filters by following cursors page by page
+    getAll: async (filters = {}) => {
+        const all = [];
+        let cursor = null;
+        do {
+            const page = await bookingService.getPage(filters, cursor);
+            all.push(...page.items);
+            cursor = page.nextCursor;
+        } while (cursor);
+        return all;
+    },
+
     getById: async (id) => {
         const response = await fetch(`${API_CONFIG.BASE_URL}/bookings/${id}`);
         if (!response.ok) {
@@ -63,11 +90,19 @@ export const bookingService = {
             payload.emailSent = payload.emailSent === true;
         }
 
-        const response = await fetch(`${API_CONFIG.BASE_URL}/bookings`, {
+        // A network failure is retried once with the same Idempotency-Key,
+        // so a create that did reach the server is not booked twice
+        const request = {
             method: 'POST',
-            headers: API_CONFIG.HEADERS,
+            headers: { ...API_CONFIG.HEADERS, 'Idempotency-Key': crypto.randomUUID() },
             body: JSON.stringify(payload)
-        });
+        };
+        let response;
+        try {
+            response = await fetch(`${API_CONFIG.BASE_URL}/bookings`, request);
+        } catch {
+            response = await fetch(`${API_CONFIG.BASE_URL}/bookings`, request);
+        }
 
         if (!response.ok) {
             const message = await extractErrorMessage(response, 'Failed to create booking');
@@ -76,7 +111,13 @@ export const bookingService = {
         return response.json();
     },
 
-    update: async (id, updates) => {
+    /**
+     * Patch a booking
+     * @param {string} id - Booking id
+     * @param {Object} updates - Fields to change
+     * @param {number} [version] - Version the edit is based on; the server answers 412 if it changed since
+     */
+    update: async (id, updates, version) => {
         // Ensure date format is correct for API
         const payload = { ...updates };
         if (payload.serviceDate instanceof Date) {
@@ -88,9 +129,12 @@ export const bookingService = {
             payload.emailSent = payload.emailSent === true;
         }
 
+        const headers = version != null
+            ? { ...API_CONFIG.HEADERS, 'If-Match': `"${version}"` }
+            : API_CONFIG.HEADERS;
         const response = await fetch(`${API_CONFIG.BASE_URL}/bookings/${id}`, {
             method: 'PATCH',
-            headers: API_CONFIG.HEADERS,
+            headers,
             body: JSON.stringify(payload)
         });
 
@@ -1,12 +1,63 @@
 import { API_CONFIG } from './api.config';
+import { toDateString } from '../utils/date.utils';
+
+// Date overrides are loaded for a window around today (server caps each request at 366 days)
+const OVERRIDE_WINDOWS = [[-366, -1], [0, 365]];
+
+const addDays = (days) => {
+    const d = new Date();
+    d.setDate(d.getDate() + days);
+    return d;
+};
 
 export const yachtService = {
+    // Yachts with dateOverrides ({ 'YYYY-MM-DD': slots }) filled from the overrides collection
     getAll: async () => {
         const response = await fetch(`${API_CONFIG.BASE_URL}/yachts`);
         if (!response.ok) throw new Error('Failed to fetch yachts');
+        const [yachts, ...windows] = await Promise.all([
+            response.json(),
+            ...OVERRIDE_WINDOWS.map(([from, to]) => yachtService.getOverrides(addDays(from), addDays(to)))
+        ]);
+
+        const byYacht = {};
+        windows.flat().forEach(({ yachtId, date, slots }) => {
+            (byYacht[yachtId] ||= {})[date] = slots;
+        });
+        return yachts.map(y => ({ ...y, dateOverrides: byYacht[y.id] || {} }));
+    },
+
+    getOverrides: async (from, to, yachtId = null) => {
+        const params = new URLSearchParams({ from: toDateString(from), to: toDateString(to) });
+        if (yachtId) params.set('yachtId', yachtId);
+        const response = await fetch(`${API_CONFIG.BASE_URL}/yachts/overrides?${params.toString()}`);
+        if (!response.ok) throw new Error('Failed to fetch date overrides');
         return response.json();
     },
 
+    // Writes only the dates that differ between two dateOverrides maps
+    saveOverrides: async (id, before = {}, after = {}) => {
+        const requests = [];
+        Object.entries(after).forEach(([date, slots]) => {
+            if (JSON.stringify(before[date]) === JSON.stringify(slots)) return;
+            requests.push(fetch(`${API_CONFIG.BASE_URL}/yachts/${id}/overrides/${date}`, {
+                method: 'PUT',
+                headers: API_CONFIG.HEADERS,
+                body: JSON.stringify(slots)
+            }));
+        });
+        Object.keys(before).forEach(date => {
+            if (date in after) return;
+            requests.push(fetch(`${API_CONFIG.BASE_URL}/yachts/${id}/overrides/${date}`, {
+                method: 'DELETE'
+            }));
+        });
+
+        const responses = await Promise.all(requests);
+        if (responses.some(r => !r.ok)) throw new Error('Failed to save date overrides');
+        return after;
+    },
+
     getById: async (id) => {
         const response = await fetch(`${API_CONFIG.BASE_URL}/yachts/${id}`);
         if (!response.ok) throw new Error('Failed to fetch yacht');
@@ -0,0 +1,89 @@
+// Booking workload for comparing request execution modes (see compare.sh).
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e MODE=platform booking-workload.js
+//
+// Mix per iteration: list a page of bookings, read availability for a week,
+// create a booking on a random slot (409 conflicts are expected and counted as
+// success), and read the created booking back.
+import http from 'k6/http';
+import { check } from 'k6';
+import { Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MODE = __ENV.MODE || 'unknown';
+const VUS = parseInt(__ENV.VUS || '400', 10);
+
+const createLatency = new Trend('create_booking_duration', true);
+
+export const options = {
+    scenarios: {
+        bookings: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: VUS },
+                { duration: '2m', target: VUS },
+                { duration: '15s', target: 0 },
+            ],
+            gracefulRampDown: '10s',
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        create_booking_duration: ['p(99)<1000'],
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    tags: { mode: MODE },
+};
+
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+export function setup() {
+    const yachts = http.get(`${BASE_URL}/api/yachts`).json();
+    const targets = yachts
+        .filter((y) => y.timeSlots && y.timeSlots.length > 0)
+        .map((y) => ({ id: y.id, slots: y.timeSlots.map((s) => s.id) }));
+    if (targets.length === 0) {
+        throw new Error('No yachts with time slots - seed data first');
+    }
+    return { targets };
+}
+
+const randomItem = (items) => items[Math.floor(Math.random() * items.length)];
+
+const isoDate = (offsetDays) => {
+    const d = new Date(Date.now() + offsetDays * 86400000);
+    return d.toISOString().slice(0, 10);
+};
+
+export default function ({ targets }) {
+    const yacht = randomItem(targets);
+    const offset = 30 + Math.floor(Math.random() * 335);
+    const from = isoDate(offset);
+
+    const page = http.get(`${BASE_URL}/api/bookings?yachtId=${yacht.id}&from=${from}&limit=50`,
+        { tags: { name: 'list' } });
+    check(page, { 'list 200': (r) => r.status === 200 });
+
+    const availability = http.get(`${BASE_URL}/api/availability?yachtId=${yacht.id}&from=${from}&to=${isoDate(offset + 6)}`,
+        { tags: { name: 'availability' } });
+    check(availability, { 'availability 200': (r) => r.status === 200 });
+
+    const payload = JSON.stringify({
+        yachtId: yacht.id,
+        slotId: randomItem(yacht.slots),
+        serviceDate: from,
+        status: 'PENDING',
+        customerName: `Load ${__VU}-${__ITER}`,
+        phone: '0000000000',
+    });
+    const created = http.post(`${BASE_URL}/api/bookings`, payload,
+        { ...JSON_HEADERS, tags: { name: 'create' }, responseCallback: http.expectedStatuses(200, 201, 409) });
+    createLatency.add(created.timings.duration);
+    check(created, { 'create 2xx/409': (r) => r.status < 300 || r.status === 409 });
+
+    if (created.status < 300) {
+        const read = http.get(`${BASE_URL}/api/bookings/${created.json('id')}`, { tags: { name: 'get' } });
+        check(read, { 'get 200': (r) => r.status === 200 });
+    }
+}
@@ -0,0 +1,26 @@
+#!/usr/bin/env sh
+# Runs the same booking workload against both execution modes and keeps the summaries.
+# Needs docker compose and k6 on the PATH; run from the repository root's yatch/loadtest.
+#
+# Compare in the summaries: http_reqs (throughput), create_booking_duration p95/p99,
+# and from /actuator/prometheus jvm_memory_used_bytes{area="heap"} and jvm_threads_live_threads.
+set -e
+
+ROOT=$(cd "$(dirname "$0")/../.." && pwd)
+OUT=${OUT:-$ROOT/yatch/loadtest/results}
+mkdir -p "$OUT"
+
+for mode in platform virtual; do
+    if [ "$mode" = virtual ]; then export VIRTUAL_THREADS=true; else export VIRTUAL_THREADS=false; fi
+    docker compose -f "$ROOT/docker-compose.yml" up -d --build --force-recreate backend
+    until curl -sf http://localhost:8080/actuator/health > /dev/null; do sleep 2; done
+
+    k6 run -e MODE=$mode -e BASE_URL=http://localhost:8080 \
+        --summary-export "$OUT/$mode-summary.json" "$ROOT/yatch/loadtest/booking-workload.js"
+
+    curl -s http://localhost:8080/actuator/prometheus \
+        | grep -E '^(jvm_memory_used_bytes\{area="heap"|jvm_threads_live_threads|jvm_gc_pause_seconds_max|mongodb_driver_pool_)' \
+        > "$OUT/$mode-jvm.txt" || true
+done
+
+echo "Summaries written to $OUT"
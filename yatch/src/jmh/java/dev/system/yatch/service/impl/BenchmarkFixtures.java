@@ -0,0 +1,85 @@
+package dev.system.yatch.service.impl;
+
+import dev.system.yatch.dto.common.TimeSlotDTO;
+import dev.system.yatch.entity.Booking;
+import dev.system.yatch.entity.Yacht;
+import dev.system.yatch.entity.YachtDateOverride;
+import dev.system.yatch.enums.BookingStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic test data shared by the benchmarks
+ */
+final class BenchmarkFixtures {
+
+    static final LocalDate BASE_DATE = LocalDate.of(2026, 1, 1);
+
+    private BenchmarkFixtures() {
+    }
+
+    // Yacht with three default slots
+    static Yacht yacht(String id) {
+        return Yacht.builder()
+                .id(id)
+                .name("Yacht " + id)
+                .description("Benchmark yacht " + id)
+                .capacity(20)
+                .timeSlots(List.of(
+                        new TimeSlotDTO("slot-" + id + "a", "09:00", "11:00", "รอบเช้า"),
+                        new TimeSlotDTO("slot-" + id + "b", "13:00", "15:00", "รอบบ่าย"),
+                        new TimeSlotDTO("slot-" + id + "c", "16:00", "18:00", "รอบเย็น")))
+                .createdAt(LocalDateTime.of(2026, 1, 1, 0, 0))
+                .updatedAt(LocalDateTime.of(2026, 1, 1, 0, 0))
+                .build();
+    }
+
+    // One single-slot override per day for `count` days from BASE_DATE
+    static List<YachtDateOverride> dateOverrides(String yachtId, int count) {
+        List<YachtDateOverride> overrides = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            overrides.add(YachtDateOverride.builder()
+                    .yachtId(yachtId)
+                    .date(BASE_DATE.plusDays(i))
+                    .slots(List.of(new TimeSlotDTO("special-" + yachtId + "-" + i, "09:00", "17:00",
+                            "Full Day Special " + i)))
+                    .build());
+        }
+        return overrides;
+    }
+
+    static Booking booking(String id, String yachtId, LocalDate date, String slotId) {
+        return Booking.builder()
+                .id(id)
+                .bookingId("YB-2026-" + id)
+                .yachtId(yachtId)
+                .yachtName("Yacht " + yachtId)
+                .slotId(slotId)
+                .slotLabel("รอบเช้า")
+                .slotStart("09:00")
+                .slotEnd("11:00")
+                .serviceDate(date)
+                .customerName("สมชาย ใจดี")
+                .phone("081-234-5678")
+                .email("somchai@email.com")
+                .status(BookingStatus.CONFIRMED)
+                .emailSent(true)
+                .notes("มากับครอบครัว 5 คน")
+                .rewardId("RW-12345")
+                .tokenTxTime("10:30")
+                .createdAt(LocalDateTime.of(2026, 1, 9, 10, 30))
+                .updatedAt(LocalDateTime.of(2026, 1, 9, 10, 30))
+                .build();
+    }
+
+    static List<Booking> bookings(int count) {
+        List<Booking> bookings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            bookings.add(booking(String.valueOf(i), "1", BASE_DATE.plusDays(i / 3), "slot-1" + (char) ('a' + i % 3)));
+        }
+        return bookings;
+    }
+}
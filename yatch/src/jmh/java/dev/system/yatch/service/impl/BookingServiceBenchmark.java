@@ -0,0 +1,133 @@
+package dev.system.yatch.service.impl;
+
+import dev.system.yatch.dto.response.BookingResponse;
+import dev.system.yatch.entity.Booking;
+import dev.system.yatch.entity.Yacht;
+import dev.system.yatch.entity.YachtDateOverride;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hot paths of the booking flow (BookingRules, SlotChecks) with Mongo replaced by in-memory repositories.
+ *
+ * Run: ./mvnw -Pbenchmark test-compile exec:exec -Djmh.args="BookingServiceBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookingServiceBenchmark {
+
+    // Date overrides stored on the yacht
+    @Param({ "0", "50", "500", "5000" })
+    int overrides;
+
+    private BookingRules rules;
+    private SlotChecks slotChecks;
+    private Yacht yacht;
+    private List<YachtDateOverride> dateOverrides;
+
+    private LocalDate busyDate;
+    private Booking defaultSlotBooking;
+    private Booking overrideSlotBooking;
+    private Booking fallbackSlotBooking;
+    private Booking mappedBooking;
+
+    @Setup
+    public void setUp() {
+        yacht = BenchmarkFixtures.yacht("1");
+        dateOverrides = BenchmarkFixtures.dateOverrides("1", overrides);
+        Map<String, Yacht> yachts = new HashMap<>(Map.of("1", yacht));
+        Map<String, Booking> bookingStore = new ConcurrentHashMap<>();
+        BenchmarkFixtures.bookings(3_000).forEach(b -> bookingStore.put(b.getId(), b));
+
+        // Resolver memoized per yacht, like the slotResolvers cache after the first hit
+        Map<String, SlotResolver> resolvers = new ConcurrentHashMap<>();
+        YachtCatalog catalog = new YachtCatalog(InMemoryRepositories.yachts(yachts), null, 366) {
+            @Override
+            public Yacht findById(String id) {
+                return yachts.get(id);
+            }
+
+            @Override
+            public SlotResolver resolverFor(Yacht y) {
+                return resolvers.computeIfAbsent(y.getId(), k -> SlotResolver.compile(y, dateOverrides));
+            }
+        };
+
+        AvailabilityServiceImpl availability = new AvailabilityServiceImpl(InMemoryRepositories.bookings(bookingStore));
+        availability.warmUp();
+
+        rules = new BookingRules(catalog, availability, new BookingMetrics(new SimpleMeterRegistry()));
+        slotChecks = new SlotChecks(rules, InMemoryRepositories.bookings(bookingStore));
+
+        busyDate = BenchmarkFixtures.BASE_DATE.plusDays(10);
+        defaultSlotBooking = BenchmarkFixtures.booking("d", "1", BenchmarkFixtures.BASE_DATE.minusDays(1), "slot-1b");
+        overrideSlotBooking = BenchmarkFixtures.booking("o", "1", busyDate, overrides > 10 ? "special-1-10" : "slot-1a");
+        // Slot id taken from a different day's override: previously a scan over every override
+        fallbackSlotBooking = BenchmarkFixtures.booking("f", "1", BenchmarkFixtures.BASE_DATE.minusDays(1),
+                overrides > 0 ? "special-1-" + (overrides - 1) : "slot-1c");
+        mappedBooking = bookingStore.get("30");
+    }
+
+    // Full pre-check of the write path; storage is only read when the availability index reports a hit
+    @Benchmark
+    public void validateFreeSlot() {
+        // Nothing booked before BASE_DATE
+        slotChecks.validate("1", BenchmarkFixtures.BASE_DATE.minusDays(1), "slot-1a", null);
+    }
+
+    @Benchmark
+    public void validateOwnSlot() {
+        // Booking "30" owns slot-1a on BASE_DATE + 10 and re-validates itself
+        slotChecks.validate("1", busyDate, "slot-1a", "30");
+    }
+
+    @Benchmark
+    public String enrichDefaultSlot() {
+        rules.enrichSlotDetails(defaultSlotBooking, yacht);
+        return defaultSlotBooking.getSlotLabel();
+    }
+
+    @Benchmark
+    public String enrichOverrideSlot() {
+        rules.enrichSlotDetails(overrideSlotBooking, yacht);
+        return overrideSlotBooking.getSlotLabel();
+    }
+
+    @Benchmark
+    public String enrichFallbackSlot() {
+        rules.enrichSlotDetails(fallbackSlotBooking, yacht);
+        return fallbackSlotBooking.getSlotLabel();
+    }
+
+    // Cost paid once per yacht write, when the cached resolver is rebuilt
+    @Benchmark
+    public SlotResolver compileSlotResolver() {
+        return SlotResolver.compile(yacht, dateOverrides);
+    }
+
+    @Benchmark
+    public BookingResponse mapToResponse() {
+        return rules.mapToResponse(mappedBooking);
+    }
+}
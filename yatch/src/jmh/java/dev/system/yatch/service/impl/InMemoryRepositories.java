@@ -0,0 +1,85 @@
+package dev.system.yatch.service.impl;
+
+import dev.system.yatch.entity.Booking;
+import dev.system.yatch.entity.Yacht;
+import dev.system.yatch.enums.BookingStatus;
+import dev.system.yatch.repository.BookingRepository;
+import dev.system.yatch.repository.YachtRepository;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Map-backed stand-ins for the Mongo repositories.
+ * Only the methods used by the benchmarked paths are implemented.
+ */
+final class InMemoryRepositories {
+
+    private InMemoryRepositories() {
+    }
+
+    static BookingRepository bookings(Map<String, Booking> store) {
+        return proxy(BookingRepository.class, (proxy, method, args) -> switch (method.getName()) {
+            case "findById" -> Optional.ofNullable(store.get((String) args[0]));
+            case "save" -> {
+                Booking booking = (Booking) args[0];
+                if (booking.getId() == null) {
+                    booking.setId(UUID.randomUUID().toString());
+                }
+                store.put(booking.getId(), booking);
+                yield booking;
+            }
+            case "findAll" -> new ArrayList<>(store.values());
+            case "findByYachtIdAndServiceDateAndStatusNot" -> store.values().stream()
+                    .filter(b -> Objects.equals(b.getYachtId(), args[0]))
+                    .filter(b -> Objects.equals(b.getServiceDate(), (LocalDate) args[1]))
+                    .filter(b -> b.getStatus() != args[2])
+                    .toList();
+            case "streamActiveSlots" -> store.values().stream()
+                    .filter(b -> b.getStatus() != BookingStatus.CANCELLED);
+            case "existsActiveSlot" -> store.values().stream()
+                    .filter(b -> b.getStatus() != BookingStatus.CANCELLED)
+                    .filter(b -> !Objects.equals(b.getId(), args[3]))
+                    .anyMatch(b -> Objects.equals(b.getYachtId(), args[0])
+                            && Objects.equals(b.getServiceDate(), args[1])
+                            && Objects.equals(b.getSlotId(), args[2]));
+            case "countByBookingIdStartingWith" -> store.values().stream()
+                    .filter(b -> b.getBookingId() != null && b.getBookingId().startsWith((String) args[0]))
+                    .count();
+            default -> unsupported(method.getName());
+        });
+    }
+
+    static YachtRepository yachts(Map<String, Yacht> store) {
+        return proxy(YachtRepository.class, (proxy, method, args) -> switch (method.getName()) {
+            case "findById" -> Optional.ofNullable(store.get((String) args[0]));
+            case "findAll" -> new ArrayList<>(store.values());
+            default -> unsupported(method.getName());
+        });
+    }
+
+    // ===== HELPER =====
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        InvocationHandler withObjectMethods = (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> "InMemory" + type.getSimpleName();
+                };
+            }
+            return handler.invoke(proxy, method, args);
+        };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, withObjectMethods));
+    }
+
+    private static Object unsupported(String method) {
+        throw new UnsupportedOperationException("Not stubbed: " + method);
+    }
+}
@@ -0,0 +1,111 @@
+package dev.system.yatch.service.impl;
+
+import dev.system.yatch.dto.common.TimeSlotDTO;
+import dev.system.yatch.dto.response.BookingResponse;
+import dev.system.yatch.dto.response.YachtResponse;
+import dev.system.yatch.entity.Yacht;
+import dev.system.yatch.entity.YachtDateOverride;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Jackson serialization of the list payloads returned by the controllers.
+ *
+ * Run: ./mvnw -Pbenchmark test-compile exec:exec -Djmh.args="JsonSerializationBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    // Bookings per list
+    @Param({ "100", "1000" })
+    int size;
+
+    // Date overrides per yacht
+    @Param({ "0", "500" })
+    int overrides;
+
+    private ObjectWriter bookingsWriter;
+    private ObjectWriter yachtsWriter;
+    private List<BookingResponse> bookings;
+    private List<YachtResponse> yachts;
+
+    @Setup
+    public void setUp() {
+        JsonMapper mapper = JsonMapper.builder().build();
+        bookingsWriter = mapper.writerFor(mapper.getTypeFactory().constructCollectionType(List.class,
+                BookingResponse.class));
+        yachtsWriter = mapper.writerFor(mapper.getTypeFactory().constructCollectionType(List.class,
+                YachtResponse.class));
+
+        bookings = BenchmarkFixtures.bookings(size).stream()
+                .map(b -> BookingResponse.builder()
+                        .id(b.getId()).bookingId(b.getBookingId())
+                        .yachtId(b.getYachtId()).yachtName(b.getYachtName())
+                        .slotId(b.getSlotId()).slotLabel(b.getSlotLabel())
+                        .slotStart(b.getSlotStart()).slotEnd(b.getSlotEnd())
+                        .serviceDate(b.getServiceDate())
+                        .customerName(b.getCustomerName()).phone(b.getPhone()).email(b.getEmail())
+                        .status(b.getStatus()).emailSent(b.isEmailSent())
+                        .notes(b.getNotes()).cancelReason(b.getCancelReason())
+                        .rewardId(b.getRewardId()).tokenTxTime(b.getTokenTxTime())
+                        .createdAt(b.getCreatedAt()).updatedAt(b.getUpdatedAt())
+                        .build())
+                .toList();
+
+        yachts = IntStream.rangeClosed(1, 4)
+                .mapToObj(i -> toResponse(BenchmarkFixtures.yacht(String.valueOf(i)),
+                        BenchmarkFixtures.dateOverrides(String.valueOf(i), overrides)))
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] serializeBookings() {
+        return bookingsWriter.writeValueAsBytes(bookings);
+    }
+
+    @Benchmark
+    public byte[] serializeYachts() {
+        return yachtsWriter.writeValueAsBytes(yachts);
+    }
+
+    // ===== HELPER =====
+    // Legacy view=full shape: every override inlined into the yacht
+    private static YachtResponse toResponse(Yacht yacht, List<YachtDateOverride> overrides) {
+        Map<String, List<TimeSlotDTO>> dateOverrides = new TreeMap<>();
+        overrides.forEach(o -> dateOverrides.put(o.getDate().toString(), o.getSlots()));
+        return YachtResponse.builder()
+                .id(yacht.getId())
+                .name(yacht.getName())
+                .description(yacht.getDescription())
+                .capacity(yacht.getCapacity())
+                .isActive(yacht.isActive())
+                .yachtType(yacht.getYachtType())
+                .timeSlots(yacht.getTimeSlots())
+                .dateOverrides(dateOverrides)
+                .createdAt(yacht.getCreatedAt())
+                .updatedAt(yacht.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,17 @@
+package dev.system.yatch.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Cache names; sizing and TTL live in application.properties (spring.cache.caffeine.spec)
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String YACHTS = "yachts";
+    public static final String YACHT_CATALOG = "yachtCatalog";
+    public static final String SLOT_RESOLVERS = "slotResolvers";
+    // Front of the idempotency_keys collection (completed results only)
+    public static final String IDEMPOTENCY = "idempotency";
+}
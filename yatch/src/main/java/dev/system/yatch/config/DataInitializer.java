@@ -4,11 +4,13 @@ import dev.system.yatch.dto.common.TimeSlotDTO;
 import dev.system.yatch.entity.Booking;
 import dev.system.yatch.entity.SavedUser;
 import dev.system.yatch.entity.Yacht;
+import dev.system.yatch.entity.YachtDateOverride;
 import dev.system.yatch.enums.BookingStatus;
 import dev.system.yatch.enums.UserType;
 import dev.system.yatch.enums.YachtType;
 import dev.system.yatch.repository.BookingRepository;
 import dev.system.yatch.repository.SavedUserRepository;
+import dev.system.yatch.repository.YachtDateOverrideRepository;
 import dev.system.yatch.repository.YachtRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,7 +21,6 @@ import org.springframework.context.annotation.Configuration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 
 @Configuration
 @Slf4j
@@ -27,6 +28,7 @@ import java.util.Map;
 public class DataInitializer {
 
         private final YachtRepository yachtRepository;
+        private final YachtDateOverrideRepository yachtDateOverrideRepository;
         private final BookingRepository bookingRepository;
         private final SavedUserRepository savedUserRepository;
 
@@ -85,10 +87,6 @@ public class DataInitializer {
                                 .timeSlots(List.of(
                                                 new TimeSlotDTO("slot-3a", "08:00", "12:00", "รอบเช้า (ครึ่งวัน)"),
                                                 new TimeSlotDTO("slot-3b", "13:00", "17:00", "รอบบ่าย (ครึ่งวัน)")))
-                                .dateOverrides(Map.of(
-                                                "2026-01-15",
-                                                List.of(new TimeSlotDTO("special-3a", "09:00", "17:00",
-                                                                "⭐ Full Day Special"))))
                                 .createdAt(LocalDateTime.of(2026, 1, 1, 0, 0))
                                 .updatedAt(LocalDateTime.of(2026, 1, 1, 0, 0))
                                 .build();
@@ -109,6 +107,13 @@ public class DataInitializer {
                                 .build();
 
                 yachtRepository.saveAll(List.of(blueOcean, sunsetDream, seaExplorer, cokoa));
+                yachtDateOverrideRepository.save(YachtDateOverride.builder()
+                                .yachtId("3")
+                                .date(LocalDate.of(2026, 1, 15))
+                                .slots(List.of(new TimeSlotDTO("special-3a", "09:00", "17:00",
+                                                "⭐ Full Day Special")))
+                                .updatedAt(LocalDateTime.of(2026, 1, 1, 0, 0))
+                                .build());
                 log.info("Seeded 4 Yachts (3 Regular, 1 Fractional).");
         }
 
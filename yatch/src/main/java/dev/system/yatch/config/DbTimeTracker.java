@@ -0,0 +1,48 @@
+package dev.system.yatch.config;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandSucceededEvent;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Accumulates Mongo command time spent on the current thread.
+ * The sync driver reports command events on the calling thread, so the
+ * service aspect can split a call into database time and application time.
+ */
+public final class DbTimeTracker {
+
+    private static final ThreadLocal<long[]> NANOS = ThreadLocal.withInitial(() -> new long[1]);
+
+    private DbTimeTracker() {
+    }
+
+    // Starts a new measurement; returns the outer measurement to hand back to stop()
+    public static long start() {
+        long[] total = NANOS.get();
+        long outer = total[0];
+        total[0] = 0;
+        return outer;
+    }
+
+    // Ends the measurement and returns its database nanos (also credited to the outer one)
+    public static long stop(long outer) {
+        long[] total = NANOS.get();
+        long inner = total[0];
+        total[0] = outer + inner;
+        return inner;
+    }
+
+    public static class Listener implements CommandListener {
+        @Override
+        public void commandSucceeded(CommandSucceededEvent event) {
+            NANOS.get()[0] += event.getElapsedTime(TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void commandFailed(CommandFailedEvent event) {
+            NANOS.get()[0] += event.getElapsedTime(TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -28,10 +28,17 @@ public class GlobalExceptionHandler {
 
         // Map specific messages to appropriate HTTP status codes
         if (message != null) {
-            if (message.contains("not found")) {
+            if (message.contains("precondition failed")) {
+                status = HttpStatus.PRECONDITION_FAILED;
+            } else if (message.contains("not found")) {
                 status = HttpStatus.NOT_FOUND;
-            } else if (message.contains("already booked") || message.contains("Slot is already")) {
+            } else if (message.contains("archived and read-only")) {
+                status = HttpStatus.GONE;
+            } else if (message.contains("already booked") || message.contains("Slot is already")
+                    || message.contains("in progress") || message.contains("modified concurrently")) {
                 status = HttpStatus.CONFLICT;
+            } else if (message.contains("unprocessable")) {
+                status = HttpStatus.UNPROCESSABLE_CONTENT;
             } else if (message.contains("invalid") || message.contains("required")) {
                 status = HttpStatus.BAD_REQUEST;
             }
@@ -0,0 +1,18 @@
+package dev.system.yatch.config;
+
+import org.springframework.boot.mongodb.autoconfigure.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Per-command Mongo metrics (mongodb.driver.commands, tagged by command and collection)
+ * are auto-configured; this adds the per-thread DB time used by ServiceMetricsAspect.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer dbTimeCommandListener() {
+        return builder -> builder.addCommandListener(new DbTimeTracker.Listener());
+    }
+}
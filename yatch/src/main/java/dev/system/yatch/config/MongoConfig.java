@@ -0,0 +1,32 @@
+package dev.system.yatch.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.mongodb.autoconfigure.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Connection pool sizing (yatch.mongodb.pool.*).
+ * With virtual threads Tomcat no longer caps concurrency, so the pool becomes the
+ * bound on in-flight database work; a short max-wait fails excess requests fast
+ * instead of letting parked requests pile up on the heap.
+ */
+@Configuration
+public class MongoConfig {
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer connectionPoolCustomizer(
+            @Value("${yatch.mongodb.pool.max-size:100}") int maxSize,
+            @Value("${yatch.mongodb.pool.min-size:10}") int minSize,
+            @Value("${yatch.mongodb.pool.max-connecting:4}") int maxConnecting,
+            @Value("${yatch.mongodb.pool.max-wait:2s}") Duration maxWait) {
+        return builder -> builder.applyToConnectionPoolSettings(pool -> pool
+                .maxSize(maxSize)
+                .minSize(minSize)
+                .maxConnecting(maxConnecting)
+                .maxWaitTime(maxWait.toMillis(), TimeUnit.MILLISECONDS));
+    }
+}
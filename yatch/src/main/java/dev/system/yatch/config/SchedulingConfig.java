@@ -0,0 +1,13 @@
+package dev.system.yatch.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Background jobs (booking archival, suggestion refresh, email dispatch); schedules live in
+ * application.properties (yatch.archive.*, yatch.suggest.*, yatch.mail.*)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,54 @@
+package dev.system.yatch.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every public service method.
+ * yatch.service = wall time, yatch.service.db = Mongo time inside the call;
+ * the difference is application time. Histograms are enabled in application.properties.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    // Reactive services only assemble pipelines; their latency shows up in http.server.requests
+    @Around("execution(public * dev.system.yatch.service.impl.*ServiceImpl.*(..))"
+            + " && !within(dev.system.yatch.service.impl.Reactive*)")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        String service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+
+        long outer = DbTimeTracker.start();
+        long start = System.nanoTime();
+        String outcome = "success";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            long db = DbTimeTracker.stop(outer);
+
+            Timer.builder("yatch.service")
+                    .tags("service", service, "method", method, "outcome", outcome)
+                    .register(meterRegistry)
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+            Timer.builder("yatch.service.db")
+                    .tags("service", service, "method", method)
+                    .register(meterRegistry)
+                    .record(db, TimeUnit.NANOSECONDS);
+        }
+    }
+}
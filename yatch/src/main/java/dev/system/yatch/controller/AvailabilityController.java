@@ -0,0 +1,27 @@
+package dev.system.yatch.controller;
+
+import dev.system.yatch.dto.response.AvailabilityResponse;
+import dev.system.yatch.service.AvailabilityService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/availability")
+@RequiredArgsConstructor
+public class AvailabilityController {
+
+    private final AvailabilityService availabilityService;
+
+    // Omit yachtId to get the whole fleet
+    @GetMapping
+    public List<AvailabilityResponse> getAvailability(
+            @RequestParam(required = false) String yachtId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return availabilityService.getAvailability(yachtId, from, to);
+    }
+}
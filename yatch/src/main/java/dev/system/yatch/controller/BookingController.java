@@ -1,45 +1,132 @@
 package dev.system.yatch.controller;
 
+import dev.system.yatch.dto.request.BatchBookingRequest;
+import dev.system.yatch.dto.request.BookingFilter;
 import dev.system.yatch.dto.request.BookingRequest;
+import dev.system.yatch.dto.response.ArchiveRunResponse;
+import dev.system.yatch.dto.response.BatchBookingResponse;
 import dev.system.yatch.dto.response.BookingResponse;
+import dev.system.yatch.dto.response.CalendarMonthResponse;
+import dev.system.yatch.enums.ExportFormat;
+import dev.system.yatch.service.BookingArchiveService;
 import dev.system.yatch.service.BookingService;
+import dev.system.yatch.service.IdempotencyService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
 
 @RestController
 @RequestMapping("/api/bookings")
 @RequiredArgsConstructor
 public class BookingController {
 
+    static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
     private final BookingService bookingService;
+    private final BookingArchiveService archiveService;
+    private final IdempotencyService idempotency;
 
+    // Filters: from, to (YYYY-MM-DD), yachtId, status. Follow nextCursor for more pages.
+    // fields=a,b and/or view=summary return only those fields per item
     @GetMapping
-    public List<BookingResponse> getAllBookings() {
-        return bookingService.getAllBookings();
+    public ResponseEntity<?> getAllBookings(
+            @ModelAttribute BookingFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String view) {
+        if (fields != null || view != null) {
+            return ResponseEntity.ok(bookingService.getBookingFields(filter, cursor, limit, fields, view));
+        }
+        return ResponseEntity.ok(bookingService.getBookings(filter, cursor, limit));
+    }
+
+    // Streams NDJSON (default) or CSV straight from a Mongo cursor; same filters as the listing
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportBookings(
+            @ModelAttribute BookingFilter filter,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat;
+        try {
+            exportFormat = ExportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported export format: " + format);
+        }
+
+        MediaType contentType = exportFormat == ExportFormat.CSV
+                ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                : MediaType.APPLICATION_NDJSON;
+        String filename = exportFormat == ExportFormat.CSV ? "bookings.csv" : "bookings.ndjson";
+
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(out -> bookingService.exportBookings(filter, exportFormat, out));
     }
 
+    // Per-day counters and occupancy for one month (month is 1-12)
+    @GetMapping("/calendar")
+    public CalendarMonthResponse getMonthCalendar(
+            @RequestParam int year,
+            @RequestParam int month,
+            @RequestParam(required = false) String yachtId) {
+        return bookingService.getMonthCalendar(year, month, yachtId);
+    }
+
+    // Runs the archival job now (normally scheduled by yatch.archive.cron); resumes an interrupted run
+    @PostMapping("/archive")
+    public ArchiveRunResponse archiveBookings() {
+        return archiveService.archive();
+    }
+
+    // ETag = document version; If-None-Match with the current version answers 304
     @GetMapping("/{id}")
-    public BookingResponse getBookingById(@PathVariable String id) {
-        return bookingService.getBookingById(id);
+    public ResponseEntity<BookingResponse> getBookingById(@PathVariable String id) {
+        BookingResponse booking = bookingService.getBookingById(id);
+        return ETags.ok(ETags.of(booking.getVersion()), booking);
     }
 
+    // Idempotency-Key (optional): a retry with the same key and body returns the original booking
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public BookingResponse createBooking(@RequestBody BookingRequest request) {
-        return bookingService.createBooking(request);
+    public BookingResponse createBooking(
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            @RequestBody BookingRequest request) {
+        return idempotency.execute("booking.create", idempotencyKey, request, BookingResponse.class,
+                () -> bookingService.createBooking(request));
+    }
+
+    // Always 200: inspect per-item results for CREATED / CONFLICT / INVALID / FAILED
+    @PostMapping("/batch")
+    public BatchBookingResponse createBookings(@RequestBody BatchBookingRequest request) {
+        return bookingService.createBookings(request);
     }
 
+    // If-Match (optional): 412 when the booking has changed since that version
+    // Idempotency-Key (optional): a retry with the same key and body returns the original result
     @PatchMapping("/{id}")
-    public BookingResponse updateBooking(@PathVariable String id, @RequestBody BookingRequest request) {
-        return bookingService.updateBooking(id, request);
+    public ResponseEntity<BookingResponse> updateBooking(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            @RequestBody BookingRequest request) {
+        BookingResponse booking = idempotency.execute("booking.update:" + id, idempotencyKey, request,
+                BookingResponse.class, () -> bookingService.updateBooking(id, request, ETags.parseIfMatch(ifMatch)));
+        return ResponseEntity.ok().eTag(ETags.of(booking.getVersion())).body(booking);
     }
 
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void deleteBooking(@PathVariable String id) {
-        bookingService.deleteBooking(id);
+    public void deleteBooking(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        bookingService.deleteBooking(id, ETags.parseIfMatch(ifMatch));
     }
 }
@@ -0,0 +1,51 @@
+package dev.system.yatch.controller;
+
+import dev.system.yatch.dto.request.BookingSeriesRequest;
+import dev.system.yatch.dto.request.BookingSeriesUpdate;
+import dev.system.yatch.dto.response.BookingSeriesResponse;
+import dev.system.yatch.service.BookingSeriesService;
+import dev.system.yatch.service.IdempotencyService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/booking-series")
+@RequiredArgsConstructor
+public class BookingSeriesController {
+
+    private final BookingSeriesService bookingSeriesService;
+    private final IdempotencyService idempotency;
+
+    // Idempotency-Key (optional): a retry with the same key and body returns the original series
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public BookingSeriesResponse create(
+            @RequestHeader(value = BookingController.IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            @RequestBody BookingSeriesRequest request) {
+        return idempotency.execute("booking-series.create", idempotencyKey, request, BookingSeriesResponse.class,
+                () -> bookingSeriesService.create(request));
+    }
+
+    @GetMapping("/{seriesId}")
+    public BookingSeriesResponse get(@PathVariable String seriesId) {
+        return bookingSeriesService.get(seriesId);
+    }
+
+    @PatchMapping("/{seriesId}")
+    public BookingSeriesResponse update(@PathVariable String seriesId, @RequestBody BookingSeriesUpdate request) {
+        return bookingSeriesService.update(seriesId, request);
+    }
+
+    // Cancels the remaining dates: from (YYYY-MM-DD) defaults to today, past bookings are kept
+    @PostMapping("/{seriesId}/cancel")
+    public BookingSeriesResponse cancel(
+            @PathVariable String seriesId,
+            @RequestParam(required = false) String reason,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from) {
+        return bookingSeriesService.cancel(seriesId, reason, from);
+    }
+}
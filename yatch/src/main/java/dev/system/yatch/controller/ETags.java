@@ -0,0 +1,57 @@
+package dev.system.yatch.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Document versions as HTTP validators. GET responses carry ETag + no-cache, so
+ * clients revalidate with If-None-Match and get a bodiless 304 while nothing changed
+ * (the 304 is produced by Spring MVC for ResponseEntity bodies with an ETag).
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    // Documents written before versioning count as version 0
+    static String of(Long version) {
+        return "\"" + (version != null ? version : 0) + "\"";
+    }
+
+    // Weak validator for a list, derived from its members' id:version pairs
+    static String ofAll(Stream<String> idVersions) {
+        CRC32 crc = new CRC32();
+        idVersions.forEach(part -> {
+            crc.update(part.getBytes(StandardCharsets.UTF_8));
+            crc.update('\n');
+        });
+        return "W/\"" + Long.toHexString(crc.getValue()) + "\"";
+    }
+
+    // Missing header or "*" means unconditional
+    static Long parseIfMatch(String header) {
+        if (header == null || header.isBlank() || header.trim().equals("*")) {
+            return null;
+        }
+        String tag = header.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        try {
+            return Long.parseLong(tag.replace("\"", ""));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("If-Match header is invalid: " + header);
+        }
+    }
+
+    static <T> ResponseEntity<T> ok(String etag, T body) {
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(body);
+    }
+}
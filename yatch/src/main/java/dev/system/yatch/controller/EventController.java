@@ -0,0 +1,29 @@
+package dev.system.yatch.controller;
+
+import dev.system.yatch.service.impl.ChangeEventBroadcaster;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Server-Sent Events stream of booking and yacht changes.
+ * Event names are "booking" / "yacht"; data is a ChangeEvent.
+ */
+@RestController
+@RequestMapping("/api/events")
+@RequiredArgsConstructor
+public class EventController {
+
+    private final ChangeEventBroadcaster broadcaster;
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(HttpServletResponse response) {
+        // Tell nginx not to buffer the stream
+        response.setHeader("X-Accel-Buffering", "no");
+        return broadcaster.subscribe();
+    }
+}
@@ -0,0 +1,29 @@
+package dev.system.yatch.controller;
+
+import dev.system.yatch.dto.request.HoldRequest;
+import dev.system.yatch.dto.response.HoldResponse;
+import dev.system.yatch.service.SlotHoldService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/holds")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class HoldController {
+
+    private final SlotHoldService slotHoldService;
+
+    // Pass the returned holdId as BookingRequest.holdId to book the held slot
+    @PostMapping
+    public ResponseEntity<HoldResponse> hold(@RequestBody HoldRequest request) {
+        return ResponseEntity.ok(slotHoldService.hold(request));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> release(@PathVariable String id) {
+        slotHoldService.release(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,52 @@
+package dev.system.yatch.controller;
+
+import dev.system.yatch.dto.request.BookingFilter;
+import dev.system.yatch.dto.request.BookingRequest;
+import dev.system.yatch.dto.response.BookingResponse;
+import dev.system.yatch.service.ReactiveBookingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking booking API. No request thread is held while Mongo works.
+ * GET with Accept: application/x-ndjson (or text/event-stream) streams rows with backpressure;
+ * application/json collects them into one array.
+ */
+@RestController
+@RequestMapping("/api/v2/bookings")
+@RequiredArgsConstructor
+public class ReactiveBookingController {
+
+    private final ReactiveBookingService bookingService;
+
+    // Filters: from, to (YYYY-MM-DD), yachtId, status
+    @GetMapping
+    public Flux<BookingResponse> streamBookings(@ModelAttribute BookingFilter filter) {
+        return bookingService.streamBookings(filter);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<BookingResponse> getBookingById(@PathVariable String id) {
+        return bookingService.getBookingById(id);
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<BookingResponse> createBooking(@RequestBody BookingRequest request) {
+        return bookingService.createBooking(request);
+    }
+
+    @PatchMapping("/{id}")
+    public Mono<BookingResponse> updateBooking(@PathVariable String id, @RequestBody BookingRequest request) {
+        return bookingService.updateBooking(id, request);
+    }
+
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> deleteBooking(@PathVariable String id) {
+        return bookingService.deleteBooking(id);
+    }
+}
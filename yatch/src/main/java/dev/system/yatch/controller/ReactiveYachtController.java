@@ -0,0 +1,45 @@
+package dev.system.yatch.controller;
+
+import dev.system.yatch.dto.request.YachtRequest;
+import dev.system.yatch.dto.response.YachtResponse;
+import dev.system.yatch.service.ReactiveYachtService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v2/yachts")
+@RequiredArgsConstructor
+public class ReactiveYachtController {
+
+    private final ReactiveYachtService yachtService;
+
+    @GetMapping
+    public Flux<YachtResponse> getAllYachts() {
+        return yachtService.getAllYachts();
+    }
+
+    @GetMapping("/{id}")
+    public Mono<YachtResponse> getYachtById(@PathVariable String id) {
+        return yachtService.getYachtById(id);
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<YachtResponse> createYacht(@RequestBody YachtRequest request) {
+        return yachtService.createYacht(request);
+    }
+
+    @PatchMapping("/{id}")
+    public Mono<YachtResponse> updateYacht(@PathVariable String id, @RequestBody YachtRequest request) {
+        return yachtService.updateYacht(id, request);
+    }
+
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> deleteYacht(@PathVariable String id) {
+        return yachtService.deleteYacht(id);
+    }
+}
@@ -5,6 +5,7 @@ import dev.system.yatch.dto.response.SavedUserResponse;
 import dev.system.yatch.enums.UserType;
 import dev.system.yatch.service.SavedUserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -18,18 +19,35 @@ public class SavedUserController {
 
     private final SavedUserService savedUserService;
 
+    // fields=a,b and/or view=summary return only those fields per user
     @GetMapping
-    public ResponseEntity<List<SavedUserResponse>> getAll(
-            @RequestParam(required = false) UserType type) {
+    public ResponseEntity<?> getAll(
+            @RequestParam(required = false) UserType type,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String view) {
+        if (fields != null || view != null) {
+            return ResponseEntity.ok(savedUserService.getFields(type, fields, view));
+        }
         if (type != null) {
             return ResponseEntity.ok(savedUserService.getByType(type));
         }
         return ResponseEntity.ok(savedUserService.getAll());
     }
 
+    // Keystroke lookups, answered from memory
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SavedUserResponse>> suggest(
+            @RequestParam String prefix,
+            @RequestParam(required = false) UserType type,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(savedUserService.suggest(prefix, type, limit));
+    }
+
+    // ETag = document version; If-None-Match with the current version answers 304
     @GetMapping("/{id}")
     public ResponseEntity<SavedUserResponse> getById(@PathVariable String id) {
-        return ResponseEntity.ok(savedUserService.getById(id));
+        SavedUserResponse user = savedUserService.getById(id);
+        return ETags.ok(ETags.of(user.getVersion()), user);
     }
 
     @PostMapping
@@ -37,16 +55,21 @@ public class SavedUserController {
         return ResponseEntity.ok(savedUserService.create(request));
     }
 
+    // If-Match (optional): 412 when the user has changed since that version
     @PatchMapping("/{id}")
     public ResponseEntity<SavedUserResponse> update(
             @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody SavedUserRequest request) {
-        return ResponseEntity.ok(savedUserService.update(id, request));
+        SavedUserResponse user = savedUserService.update(id, request, ETags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(user.getVersion())).body(user);
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@PathVariable String id) {
-        savedUserService.delete(id);
+    public ResponseEntity<Void> delete(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        savedUserService.delete(id, ETags.parseIfMatch(ifMatch));
         return ResponseEntity.noContent().build();
     }
 }
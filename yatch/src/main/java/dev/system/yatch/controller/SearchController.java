@@ -0,0 +1,27 @@
+package dev.system.yatch.controller;
+
+import dev.system.yatch.dto.response.SearchResponse;
+import dev.system.yatch.enums.SearchScope;
+import dev.system.yatch.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class SearchController {
+
+    private final SearchService searchService;
+
+    // q matches customer/user names (Thai or Latin), phone digits, email, bookingId or userId
+    @GetMapping
+    public ResponseEntity<SearchResponse> search(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "ALL") SearchScope scope,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(searchService.search(q, scope, page, size));
+    }
+}
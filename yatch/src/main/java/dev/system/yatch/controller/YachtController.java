@@ -2,9 +2,12 @@ package dev.system.yatch.controller;
 
 import dev.system.yatch.dto.request.YachtRequest;
 import dev.system.yatch.dto.response.YachtResponse;
+import dev.system.yatch.service.YachtDateOverrideService;
 import dev.system.yatch.service.YachtService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -14,16 +17,36 @@ import java.util.List;
 @RequiredArgsConstructor
 public class YachtController {
 
+    private static final String FULL_VIEW = "full";
+
     private final YachtService yachtService;
+    private final YachtDateOverrideService overrideService;
 
+    // view=full adds every date override (legacy shape); prefer /api/yachts/overrides?from=&to=
+    // fields=a,b and/or view=summary return only those fields per yacht
+    // Overrides are versioned separately, so only the default view carries an ETag
     @GetMapping
-    public List<YachtResponse> getAllYachts() {
-        return yachtService.getAllYachts();
+    public ResponseEntity<?> getAllYachts(
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields) {
+        if (!FULL_VIEW.equals(view) && (fields != null || view != null)) {
+            return ResponseEntity.ok(yachtService.getYachtFields(fields, view));
+        }
+        List<YachtResponse> yachts = yachtService.getAllYachts();
+        if (FULL_VIEW.equals(view)) {
+            return ResponseEntity.ok(overrideService.withDateOverrides(yachts));
+        }
+        return ETags.ok(ETags.ofAll(yachts.stream().map(y -> y.getId() + ":" + y.getVersion())), yachts);
     }
 
     @GetMapping("/{id}")
-    public YachtResponse getYachtById(@PathVariable String id) {
-        return yachtService.getYachtById(id);
+    public ResponseEntity<YachtResponse> getYachtById(@PathVariable String id,
+            @RequestParam(required = false) String view) {
+        YachtResponse yacht = yachtService.getYachtById(id);
+        if (FULL_VIEW.equals(view)) {
+            return ResponseEntity.ok(overrideService.withDateOverrides(List.of(yacht)).get(0));
+        }
+        return ETags.ok(ETags.of(yacht.getVersion()), yacht);
     }
 
     @PostMapping
@@ -32,14 +55,21 @@ public class YachtController {
         return yachtService.createYacht(request);
     }
 
+    // If-Match (optional): 412 when the yacht has changed since that version
     @PatchMapping("/{id}")
-    public YachtResponse updateYacht(@PathVariable String id, @RequestBody YachtRequest request) {
-        return yachtService.updateYacht(id, request);
+    public ResponseEntity<YachtResponse> updateYacht(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody YachtRequest request) {
+        YachtResponse yacht = yachtService.updateYacht(id, request, ETags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(yacht.getVersion())).body(yacht);
     }
 
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void deleteYacht(@PathVariable String id) {
-        yachtService.deleteYacht(id);
+    public void deleteYacht(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        yachtService.deleteYacht(id, ETags.parseIfMatch(ifMatch));
     }
 }
@@ -0,0 +1,54 @@
+package dev.system.yatch.controller;
+
+import dev.system.yatch.dto.common.TimeSlotDTO;
+import dev.system.yatch.dto.response.DateOverrideResponse;
+import dev.system.yatch.service.YachtDateOverrideService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/yachts")
+@RequiredArgsConstructor
+public class YachtDateOverrideController {
+
+    private final YachtDateOverrideService overrideService;
+
+    // Whole fleet (or one yacht via yachtId) for a date window, max 366 days
+    @GetMapping("/overrides")
+    public List<DateOverrideResponse> getOverrides(
+            @RequestParam(required = false) String yachtId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return overrideService.getOverrides(yachtId, from, to);
+    }
+
+    @GetMapping("/{id}/overrides")
+    public List<DateOverrideResponse> getYachtOverrides(
+            @PathVariable String id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return overrideService.getOverrides(id, from, to);
+    }
+
+    // Body is the slot list for that date (an empty list closes the day)
+    @PutMapping("/{id}/overrides/{date}")
+    public DateOverrideResponse putOverride(
+            @PathVariable String id,
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestBody List<TimeSlotDTO> slots) {
+        return overrideService.putOverride(id, date, slots);
+    }
+
+    @DeleteMapping("/{id}/overrides/{date}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void deleteOverride(
+            @PathVariable String id,
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        overrideService.deleteOverride(id, date);
+    }
+}
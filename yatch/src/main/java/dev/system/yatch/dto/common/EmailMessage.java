@@ -0,0 +1,22 @@
+package dev.system.yatch.dto.common;
+
+import dev.system.yatch.enums.EmailKind;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A rendered customer email handed to the EmailSender
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmailMessage {
+    private String bookingId; // Booking document id
+    private EmailKind kind;
+    private String to;
+    private String subject;
+    private String body;
+}
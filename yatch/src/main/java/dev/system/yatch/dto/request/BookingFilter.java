@@ -0,0 +1,29 @@
+package dev.system.yatch.dto.request;
+
+import dev.system.yatch.enums.BookingStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * Server-side filter for booking listings (all fields optional)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingFilter {
+    // Inclusive service date range (YYYY-MM-DD)
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+
+    private String yachtId;
+    private BookingStatus status;
+}
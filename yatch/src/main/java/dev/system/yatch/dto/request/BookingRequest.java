@@ -41,4 +41,7 @@ public class BookingRequest {
 
     @JsonProperty("emailSent")
     private Boolean emailSent;
+
+    // From POST /api/holds: books the held slot; slot fields left out are taken from the hold
+    private String holdId;
 }
@@ -0,0 +1,55 @@
+package dev.system.yatch.dto.request;
+
+import dev.system.yatch.enums.BookingStatus;
+import dev.system.yatch.enums.RecurrenceFrequency;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * The same slot on many dates: a recurrence rule, explicit dates, or both (merged)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingSeriesRequest {
+    private String yachtId;
+    private String slotId;
+
+    private Recurrence recurrence;
+    private List<LocalDate> dates;
+
+    // PENDING (default) or CONFIRMED
+    private BookingStatus status;
+
+    private String customerName;
+    private String phone;
+    private String email;
+    private String notes;
+
+    private String rewardId;
+
+    // false: any taken date rejects the whole series; true: book the free dates, report the rest
+    private boolean skipConflicts;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Recurrence {
+        private RecurrenceFrequency frequency;
+        // Every n days / weeks / months; default 1
+        private Integer interval;
+        private List<DayOfWeek> daysOfWeek;
+        private LocalDate startDate;
+        // At least one of until (inclusive) and count
+        private LocalDate until;
+        private Integer count;
+    }
+}
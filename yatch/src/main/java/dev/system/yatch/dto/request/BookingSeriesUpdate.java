@@ -0,0 +1,21 @@
+package dev.system.yatch.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Fields $set on every booking of a series; null fields are left alone
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingSeriesUpdate {
+    private String customerName;
+    private String phone;
+    private String email;
+    private String notes;
+    private String rewardId;
+}
@@ -0,0 +1,21 @@
+package dev.system.yatch.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HoldRequest {
+    private String yachtId;
+    private String slotId;
+    private LocalDate serviceDate;
+
+    // How long to hold the slot; server default when null, capped by yatch.holds.max-minutes
+    private Integer minutes;
+}
@@ -28,5 +28,6 @@ public class YachtRequest {
 
     private List<TimeSlotDTO> timeSlots;
 
+    // Legacy: replaces all of the yacht's date overrides. Prefer PUT/DELETE /api/yachts/{id}/overrides/{date}
     private Map<String, List<TimeSlotDTO>> dateOverrides;
 }
@@ -0,0 +1,21 @@
+package dev.system.yatch.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchiveRunResponse {
+    private LocalDate cutoff;
+    private LocalDate archivedBefore;
+    private long moved; // Bookings moved by this run, including before a resume
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+}
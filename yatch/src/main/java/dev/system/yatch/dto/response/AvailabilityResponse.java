@@ -0,0 +1,22 @@
+package dev.system.yatch.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Occupied slots of one yacht on one day (days without bookings are omitted)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilityResponse {
+    private String yachtId;
+    private LocalDate date;
+    private List<String> bookedSlotIds;
+}
@@ -0,0 +1,33 @@
+package dev.system.yatch.dto.response;
+
+import dev.system.yatch.enums.BatchItemStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Per-item results, in the same order as the request items
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchBookingResponse {
+    private int created;
+    private int rejected;
+    private List<ItemResult> results;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResult {
+        private int index;
+        private BatchItemStatus status;
+        private BookingResponse booking; // Only when CREATED
+        private String message;
+    }
+}
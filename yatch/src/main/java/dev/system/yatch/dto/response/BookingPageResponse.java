@@ -0,0 +1,21 @@
+package dev.system.yatch.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of bookings ordered by (serviceDate, id).
+ * nextCursor is null when there are no more results.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingPageResponse {
+    private List<BookingResponse> items;
+    private String nextCursor;
+}
@@ -15,6 +15,7 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class BookingResponse {
     private String id;
+    private Long version;
     private String bookingId; // e.g., "YB-2026-0001"
 
     private String yachtId;
@@ -26,6 +27,7 @@ public class BookingResponse {
     private String slotEnd;
 
     private LocalDate serviceDate;
+    private String seriesId;
 
     private String customerName;
     private String phone;
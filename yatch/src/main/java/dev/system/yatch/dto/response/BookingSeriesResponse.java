@@ -0,0 +1,23 @@
+package dev.system.yatch.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingSeriesResponse {
+    private String seriesId;
+    // Bookings written by this call (created, updated or cancelled)
+    private int affected;
+    // The series' bookings, by serviceDate
+    private List<BookingResponse> bookings;
+    // Dates left out because the slot was taken (skipConflicts only)
+    private List<LocalDate> conflicts;
+}
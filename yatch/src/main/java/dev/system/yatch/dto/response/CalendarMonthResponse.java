@@ -0,0 +1,49 @@
+package dev.system.yatch.dto.response;
+
+import dev.system.yatch.enums.BookingStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-day booking counters for one month (computed by a Mongo aggregation)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarMonthResponse {
+    private int year;
+    private int month;
+    private List<Day> days;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Day {
+        private LocalDate date;
+        private int total; // All bookings, including cancelled
+        private int booked; // Non-cancelled bookings
+        private int slots; // Slots offered across the yachts in scope
+        private double occupancy; // booked / slots (0 when no slots)
+        private Map<BookingStatus, Integer> byStatus;
+        private List<YachtDay> yachts;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class YachtDay {
+        private String yachtId;
+        private int booked;
+        private int slots;
+        private double occupancy;
+    }
+}
@@ -0,0 +1,30 @@
+package dev.system.yatch.dto.response;
+
+import dev.system.yatch.enums.ChangeAction;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Compact change notification pushed over /api/events.
+ * changes holds the full object for CREATED, only the changed fields for UPDATED,
+ * and is null for DELETED.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeEvent {
+    public static final String BOOKING = "booking";
+    public static final String YACHT = "yacht";
+
+    private String entity; // "booking" or "yacht"
+    private ChangeAction action;
+    private String id;
+    private Map<String, Object> changes;
+    private LocalDateTime timestamp;
+}
@@ -0,0 +1,23 @@
+package dev.system.yatch.dto.response;
+
+import dev.system.yatch.dto.common.TimeSlotDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Slots of one yacht on one date (replaces the yacht's default timeSlots that day)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DateOverrideResponse {
+    private String yachtId;
+    private LocalDate date;
+    private List<TimeSlotDTO> slots;
+}
@@ -0,0 +1,21 @@
+package dev.system.yatch.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HoldResponse {
+    private String holdId;
+    private String yachtId;
+    private String slotId;
+    private LocalDate serviceDate;
+    private LocalDateTime expiresAt;
+}
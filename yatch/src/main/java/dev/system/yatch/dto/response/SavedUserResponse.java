@@ -14,6 +14,7 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class SavedUserResponse {
     private String id;
+    private Long version;
     private String userId;
     private String name;
     private String email;
@@ -0,0 +1,27 @@
+package dev.system.yatch.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * One /api/search result: the summary fields of a booking or saved user.
+ * Prefix matches come first; fuzzy (trigram) matches fill the remaining places.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchHit {
+    public static final String BOOKING = "booking";
+    public static final String SAVED_USER = "savedUser";
+
+    private String type;
+    private String id;
+    private int score;
+    private boolean fuzzy;
+    private Map<String, Object> fields;
+}
@@ -0,0 +1,22 @@
+package dev.system.yatch.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A BookingPageResponse limited to the requested fields (?fields= / view=summary).
+ * Each item holds only those fields; nextCursor works the same way.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SparsePageResponse {
+    private List<Map<String, Object>> items;
+    private String nextCursor;
+}
@@ -1,5 +1,6 @@
 package dev.system.yatch.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import dev.system.yatch.dto.common.TimeSlotDTO;
 import dev.system.yatch.enums.YachtType;
@@ -18,6 +19,7 @@ import java.util.Map;
 @AllArgsConstructor
 public class YachtResponse {
     private String id;
+    private Long version;
     private String name;
     private String description;
     private int capacity;
@@ -28,7 +30,9 @@ public class YachtResponse {
 
     private List<TimeSlotDTO> timeSlots;
 
-    // Key: Date string "YYYY-MM-DD", Value: List of slots for that day
+    // Key: Date string "YYYY-MM-DD", Value: List of slots for that day.
+    // Only filled for ?view=full (legacy clients); use /api/yachts/{id}/overrides for date windows
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private Map<String, List<TimeSlotDTO>> dateOverrides;
 
     private LocalDateTime createdAt;
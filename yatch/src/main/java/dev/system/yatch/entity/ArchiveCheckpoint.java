@@ -0,0 +1,40 @@
+package dev.system.yatch.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Progress of the booking archival job. An unfinished run (completedAt == null)
+ * resumes after (lastServiceDate, lastId) with the same cutoff.
+ * The document is also the job's lease, so only one node archives at a time.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "archive_checkpoints")
+public class ArchiveCheckpoint {
+    @Id
+    private String id; // Archived collection, e.g. "bookings"
+
+    private LocalDate cutoff; // This run moves bookings with serviceDate < cutoff
+    private LocalDate archivedBefore; // Every archived booking has serviceDate < archivedBefore
+
+    private LocalDate lastServiceDate;
+    private String lastId;
+    private long moved;
+
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+
+    // Lease: the node running the job and until when; another node may take over after leaseUntil
+    private String owner;
+    private LocalDateTime leaseUntil;
+}
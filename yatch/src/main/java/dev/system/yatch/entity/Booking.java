@@ -7,21 +7,54 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "bookings")
+// Keyset pagination indexes: every listing sorts by (serviceDate, _id)
+@CompoundIndexes({
+        @CompoundIndex(name = "serviceDate_id", def = "{'serviceDate': 1, '_id': 1}"),
+        @CompoundIndex(name = "yacht_serviceDate_id", def = "{'yachtId': 1, 'serviceDate': 1, '_id': 1}"),
+        @CompoundIndex(name = "status_serviceDate_id", def = "{'status': 1, 'serviceDate': 1, '_id': 1}"),
+        // One live booking or slot hold per (yacht, date, slot); cancelled bookings release the slot.
+        // $ne is not allowed in partial filters, so list the non-cancelled statuses.
+        @CompoundIndex(name = Booking.ACTIVE_SLOT_INDEX,
+                def = "{'yachtId': 1, 'serviceDate': 1, 'slotId': 1}",
+                unique = true,
+                partialFilter = "{'status': {'$in': ['PENDING', 'PROCESSING', 'CONFIRMED', 'USED', 'NO_SHOW', 'HELD']}}"),
+        // Email outbox: only bookings with a queued email are indexed
+        @CompoundIndex(name = "email_outbox", def = "{'emailDispatch.nextAttemptAt': 1}",
+                partialFilter = "{'emailDispatch.nextAttemptAt': {'$exists': true}}")
+})
 public class Booking {
+    // Renamed when HELD joined the partial filter; SlotHoldServiceImpl drops the old index at startup
+    public static final String ACTIVE_SLOT_INDEX = "uniq_slot_claim";
+    public static final String LEGACY_ACTIVE_SLOT_INDEX = "uniq_active_slot";
+    public static final String BOOKING_ID_INDEX = "uniq_booking_id";
+    public static final String SEARCH_KEYS_INDEX = "search_keys";
+    // Cold tier, same document shape (BookingArchiveService)
+    public static final String ARCHIVE_COLLECTION = "bookings_archive";
+
     @Id
     private String id;
 
+    // Optimistic concurrency: bumped on every write, exposed as the ETag
+    @Version
+    private Long version;
+
+    @Indexed(name = BOOKING_ID_INDEX, unique = true)
     private String bookingId; // e.g., "YB-2026-0001"
 
     private String yachtId;
@@ -35,12 +68,26 @@ public class Booking {
 
     private LocalDate serviceDate;
 
+    // Set on bookings created together by /api/booking-series; sparse, most bookings have none
+    @Indexed(name = "seriesId", sparse = true)
+    private String seriesId;
+
     private String customerName;
     private String phone;
     private String email;
 
+    // Normalized name, phone, email and bookingId tokens behind /api/search (SearchKeys); multikey index
+    @Indexed(name = SEARCH_KEYS_INDEX)
+    private List<String> searchKeys;
+
     private BookingStatus status;
+
+    // HELD rows only: when the hold lapses. Sparse TTL index, Mongo's fallback for SlotHolds' timer wheel
+    @Indexed(name = "ttl_hold_expires", expireAfter = "0s", sparse = true)
+    private LocalDateTime holdExpiresAt;
     private boolean emailSent;
+    // Queued customer email, drained by EmailDispatcher
+    private EmailDispatch emailDispatch;
 
     private String notes;
     private String cancelReason;
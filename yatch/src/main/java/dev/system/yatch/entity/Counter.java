@@ -0,0 +1,23 @@
+package dev.system.yatch.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Named sequence; value is the highest number already leased to any node
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "counters")
+public class Counter {
+    @Id
+    private String id; // Sequence name, e.g. "booking-2026"
+
+    private long value;
+}
@@ -0,0 +1,33 @@
+package dev.system.yatch.entity;
+
+import dev.system.yatch.enums.EmailKind;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox entry embedded in a booking (Booking.emailDispatch), written in the same
+ * document write as the create or confirm; removed once EmailDispatcher delivers it.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmailDispatch {
+    private String id; // Distinguishes a re-queued email from the one being delivered
+    private EmailKind kind;
+
+    private int attempts;
+    private LocalDateTime nextAttemptAt; // Unset once parked as failed
+    private String lastError;
+    private LocalDateTime failedAt;
+
+    // Dispatcher lease: claimed entries are skipped by other nodes until it expires
+    private String claimedBy;
+    private LocalDateTime leaseUntil;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,33 @@
+package dev.system.yatch.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Result of a write made with an Idempotency-Key; Mongo drops it 24h after creation (TTL index)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "idempotency_keys")
+public class IdempotencyRecord {
+    @Id
+    private String id; // "<operation>:<Idempotency-Key>"
+
+    private String requestHash; // SHA-256 of the request body; a different body with the same key is rejected
+    private boolean completed;
+    private String response; // JSON of the original result, once completed
+
+    private LocalDateTime lockedUntil; // While in progress; another node may take over after it
+
+    @Indexed(name = "ttl_created", expireAfter = "24h")
+    private LocalDateTime createdAt;
+}
@@ -6,9 +6,12 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Saved User entity - pre-saved customer info for quick booking
@@ -19,15 +22,25 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Document(collection = "saved_users")
 public class SavedUser {
+    public static final String USER_ID_INDEX = "uniq_user_id";
 
     @Id
     private String id;
 
+    // Optimistic concurrency: bumped on every write, exposed as the ETag
+    @Version
+    private Long version;
+
+    // Unique (USER_ID_INDEX), built by SavedUserServiceImpl.ensureUserIdIndex once legacy duplicates are renumbered
     private String userId; // Unique ID (e.g., "U-0001")
     private String name; // Customer name
     private String email;
     private String phone;
 
+    // Normalized name, phone, email and userId tokens behind /api/search (SearchKeys); multikey index
+    @Indexed(name = "search_keys")
+    private List<String> searchKeys;
+
     private UserType userType; // REGULAR or FRACTIONAL
 
     private boolean isActive;
@@ -8,12 +8,12 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 
 @Data
 @Builder
@@ -24,6 +24,10 @@ public class Yacht {
     @Id
     private String id;
 
+    // Optimistic concurrency: bumped on every write, exposed as the ETag
+    @Version
+    private Long version;
+
     private String name;
     private String description;
     private int capacity;
@@ -36,8 +40,7 @@ public class Yacht {
 
     private List<TimeSlotDTO> timeSlots;
 
-    // Key: Date string "YYYY-MM-DD", Value: List of slots for that day
-    private Map<String, List<TimeSlotDTO>> dateOverrides;
+    // Per-date slots live in yacht_date_overrides (YachtDateOverride), not in this document
 
     @CreatedDate
     private LocalDateTime createdAt;
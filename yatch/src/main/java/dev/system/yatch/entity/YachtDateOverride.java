@@ -0,0 +1,44 @@
+package dev.system.yatch.entity;
+
+import dev.system.yatch.dto.common.TimeSlotDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Slots offered by one yacht on one date, replacing its default timeSlots for that day.
+ * Formerly embedded in the yacht document as dateOverrides.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "yacht_date_overrides")
+@CompoundIndexes({
+        // One override per (yacht, date); also serves per-yacht range reads
+        @CompoundIndex(name = YachtDateOverride.YACHT_DATE_INDEX, def = "{'yachtId': 1, 'date': 1}", unique = true),
+        // Fleet-wide range reads (calendar)
+        @CompoundIndex(name = "date_yacht", def = "{'date': 1, 'yachtId': 1}")
+})
+public class YachtDateOverride {
+    public static final String YACHT_DATE_INDEX = "uniq_yacht_date";
+
+    @Id
+    private String id;
+
+    private String yachtId;
+    private LocalDate date;
+
+    private List<TimeSlotDTO> slots;
+
+    private LocalDateTime updatedAt;
+}
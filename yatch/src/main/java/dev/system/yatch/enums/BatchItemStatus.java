@@ -0,0 +1,11 @@
+package dev.system.yatch.enums;
+
+/**
+ * Outcome of one item in a batch booking request
+ */
+public enum BatchItemStatus {
+    CREATED,
+    CONFLICT, // Slot already taken (in storage or earlier in the same batch)
+    INVALID, // Unknown yacht/slot or missing fields
+    FAILED // Unexpected write error
+}
@@ -6,5 +6,7 @@ public enum BookingStatus {
     CONFIRMED,
     USED,
     NO_SHOW,
-    CANCELLED
+    CANCELLED,
+    // Slot hold placeholder (POST /api/holds); set only by SlotHoldService, never through the booking API
+    HELD
 }
@@ -0,0 +1,7 @@
+package dev.system.yatch.enums;
+
+public enum ChangeAction {
+    CREATED,
+    UPDATED,
+    DELETED
+}
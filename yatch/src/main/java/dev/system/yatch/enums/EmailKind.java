@@ -0,0 +1,9 @@
+package dev.system.yatch.enums;
+
+/**
+ * Customer emails queued in the booking outbox
+ */
+public enum EmailKind {
+    RECEIVED, // Booking created, not yet confirmed
+    CONFIRMATION
+}
@@ -0,0 +1,9 @@
+package dev.system.yatch.enums;
+
+/**
+ * Booking export formats
+ */
+public enum ExportFormat {
+    NDJSON, // One JSON object per line
+    CSV
+}
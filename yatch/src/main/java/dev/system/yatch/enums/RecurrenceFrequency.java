@@ -0,0 +1,10 @@
+package dev.system.yatch.enums;
+
+/**
+ * How a booking series repeats (BookingSeriesRequest.Recurrence)
+ */
+public enum RecurrenceFrequency {
+    DAILY,
+    WEEKLY, // On recurrence.daysOfWeek, default the start date's weekday
+    MONTHLY // Same day of month; months without that day are skipped
+}
@@ -0,0 +1,10 @@
+package dev.system.yatch.enums;
+
+/**
+ * Collections covered by /api/search
+ */
+public enum SearchScope {
+    ALL,
+    BOOKINGS, // Hot and archived bookings
+    USERS // Saved users
+}
@@ -9,16 +9,25 @@ import java.time.LocalDate;
 import java.util.List;
 
 @Repository
-public interface BookingRepository extends MongoRepository<Booking, String> {
+public interface BookingRepository extends MongoRepository<Booking, String>, BookingRepositoryCustom {
     // Find all bookings for a specific service date
     List<Booking> findByServiceDate(LocalDate serviceDate);
 
     // Find bookings by yacht and date (for availability check)
     List<Booking> findByYachtIdAndServiceDate(String yachtId, LocalDate serviceDate);
 
+    // Live bookings of one yacht on one day (batch conflict check)
+    List<Booking> findByYachtIdAndServiceDateAndStatusNot(String yachtId, LocalDate serviceDate, BookingStatus status);
+
+    // Every booking of a series (/api/booking-series), uses the sparse seriesId index
+    List<Booking> findBySeriesIdOrderByServiceDateAsc(String seriesId);
+
     // Find active bookings (not cancelled)
     List<Booking> findByStatusNot(BookingStatus status);
 
     // Find bookings by status
     List<Booking> findByStatus(BookingStatus status);
+
+    // Seeds the booking id sequence (anchored prefix, uses the bookingId index)
+    long countByBookingIdStartingWith(String prefix);
 }
@@ -0,0 +1,108 @@
+package dev.system.yatch.repository;
+
+import dev.system.yatch.dto.request.BookingFilter;
+import dev.system.yatch.entity.Booking;
+import dev.system.yatch.enums.BookingStatus;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Custom booking queries that need MongoTemplate
+ */
+public interface BookingRepositoryCustom {
+
+    // One row per (serviceDate, yachtId, status) group
+    record DayCount(LocalDate serviceDate, String yachtId, BookingStatus status, int count) {
+    }
+
+    // One document's update inside a bulk write
+    record RowUpdate(Criteria criteria, Update update) {
+    }
+
+    /**
+     * Keyset page ordered by (serviceDate, _id).
+     * Pass null afterDate/afterId for the first page.
+     * fields limits the documents to a projection (id and serviceDate are always read); null reads everything.
+     */
+    List<Booking> findPage(BookingFilter filter, LocalDate afterDate, String afterId, int limit,
+            Collection<String> fields);
+
+    /**
+     * Booking counts grouped by (serviceDate, yachtId, status) within [from, to].
+     * yachtId is optional.
+     */
+    List<DayCount> countByDay(LocalDate from, LocalDate to, String yachtId);
+
+    /**
+     * Single unordered bulk insert. Bookings must carry their ids.
+     * Returns write errors by list index (empty when everything was inserted).
+     */
+    Map<Integer, String> insertUnordered(List<Booking> bookings);
+
+    /**
+     * Cursor over every booking matching the filter, ordered by (serviceDate, _id).
+     * Caller must close the stream.
+     */
+    Stream<Booking> streamByFilter(BookingFilter filter);
+
+    /**
+     * Cursor over non-cancelled bookings, projected to slot fields only.
+     * Caller must close the stream.
+     */
+    Stream<Booking> streamActiveSlots();
+
+    // ===== ARCHIVE =====
+    // Same reads against bookings_archive (settled bookings past the archive horizon)
+
+    List<Booking> findArchivedPage(BookingFilter filter, LocalDate afterDate, String afterId, int limit,
+            Collection<String> fields);
+
+    List<DayCount> countArchivedByDay(LocalDate from, LocalDate to, String yachtId);
+
+    // Caller must close the stream
+    Stream<Booking> streamArchivedByFilter(BookingFilter filter);
+
+    Optional<Booking> findArchivedById(String id);
+
+    boolean existsArchivedById(String id);
+
+    /**
+     * Applies the update to the booking matching the criteria (id plus optional version/slot guards)
+     * and returns the new document, or null when nothing matched.
+     */
+    Booking patch(Criteria criteria, Update update);
+
+    /**
+     * Deletes the booking matching the criteria; returns whether one was removed.
+     */
+    boolean deleteMatching(Criteria criteria);
+
+    /**
+     * Whether another live booking (not excludeBookingId, which may be null) holds the slot.
+     * Answered from the unique active-slot index.
+     */
+    boolean existsActiveSlot(String yachtId, LocalDate serviceDate, String slotId, String excludeBookingId);
+
+    /**
+     * Dates among the given ones on which the (yacht, slot) already has a live booking.
+     * One $in query answered from the unique active-slot index.
+     */
+    List<LocalDate> findTakenDates(String yachtId, String slotId, Collection<LocalDate> dates);
+
+    /**
+     * updateMany: applies the update to every booking matching the criteria; returns the number modified.
+     */
+    long updateAll(Criteria criteria, Update update);
+
+    /**
+     * Single unordered bulk write of per-document updates; returns the number modified.
+     */
+    long updateEach(List<RowUpdate> updates);
+}
@@ -0,0 +1,230 @@
+package dev.system.yatch.repository;
+
+import dev.system.yatch.dto.request.BookingFilter;
+import dev.system.yatch.entity.Booking;
+import dev.system.yatch.enums.BookingStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class BookingRepositoryCustomImpl implements BookingRepositoryCustom {
+
+    private static final int STREAM_BATCH_SIZE = 500;
+
+    // status $in (not $ne CANCELLED), so slot queries match the partial unique index's filter
+    static final Set<BookingStatus> ACTIVE_STATUSES = EnumSet.complementOf(EnumSet.of(BookingStatus.CANCELLED));
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<Booking> findPage(BookingFilter filter, LocalDate afterDate, String afterId, int limit,
+            Collection<String> fields) {
+        return findPage(filter, afterDate, afterId, limit, fields, mongoTemplate.getCollectionName(Booking.class));
+    }
+
+    @Override
+    public List<Booking> findArchivedPage(BookingFilter filter, LocalDate afterDate, String afterId, int limit,
+            Collection<String> fields) {
+        return findPage(filter, afterDate, afterId, limit, fields, Booking.ARCHIVE_COLLECTION);
+    }
+
+    private List<Booking> findPage(BookingFilter filter, LocalDate afterDate, String afterId, int limit,
+            Collection<String> fields, String collection) {
+        List<Criteria> clauses = filterClauses(filter);
+
+        // Keyset: (serviceDate, _id) strictly after the cursor position
+        if (afterDate != null && afterId != null) {
+            clauses.add(new Criteria().orOperator(
+                    Criteria.where("serviceDate").gt(afterDate),
+                    new Criteria().andOperator(
+                            Criteria.where("serviceDate").is(afterDate),
+                            Criteria.where("id").gt(afterId))));
+        }
+
+        Query query = new Query(clauses.isEmpty() ? new Criteria() : new Criteria().andOperator(clauses))
+                .with(Sort.by(Sort.Order.asc("serviceDate"), Sort.Order.asc("id")))
+                .limit(limit);
+        if (fields != null) {
+            // Keyset position is always needed for the next cursor
+            query.fields().include("id", "serviceDate");
+            fields.forEach(query.fields()::include);
+        }
+
+        return mongoTemplate.find(query, Booking.class, collection);
+    }
+
+    @Override
+    public List<DayCount> countByDay(LocalDate from, LocalDate to, String yachtId) {
+        return countByDay(from, to, yachtId, mongoTemplate.getCollectionName(Booking.class));
+    }
+
+    @Override
+    public List<DayCount> countArchivedByDay(LocalDate from, LocalDate to, String yachtId) {
+        return countByDay(from, to, yachtId, Booking.ARCHIVE_COLLECTION);
+    }
+
+    private List<DayCount> countByDay(LocalDate from, LocalDate to, String yachtId, String collection) {
+        Criteria match = Criteria.where("serviceDate").gte(from).lte(to);
+        if (yachtId != null) {
+            match = match.and("yachtId").is(yachtId);
+        }
+
+        TypedAggregation<Booking> aggregation = Aggregation.newAggregation(Booking.class,
+                Aggregation.match(match),
+                Aggregation.group("serviceDate", "yachtId", "status").count().as("count"),
+                Aggregation.project("serviceDate", "yachtId", "status", "count").andExclude("_id"));
+
+        return mongoTemplate.aggregate(aggregation, collection, DayCount.class).getMappedResults();
+    }
+
+    @Override
+    public Map<Integer, String> insertUnordered(List<Booking> bookings) {
+        Map<Integer, String> errors = new HashMap<>();
+        if (bookings.isEmpty()) {
+            return errors;
+        }
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Booking.class)
+                    .insert(bookings)
+                    .execute();
+        } catch (BulkOperationException e) {
+            e.getErrors().forEach(error -> errors.put(error.getIndex(), error.getMessage()));
+        }
+        return errors;
+    }
+
+    @Override
+    public Stream<Booking> streamByFilter(BookingFilter filter) {
+        return mongoTemplate.stream(streamQuery(filter), Booking.class);
+    }
+
+    @Override
+    public Stream<Booking> streamArchivedByFilter(BookingFilter filter) {
+        return mongoTemplate.stream(streamQuery(filter), Booking.class, Booking.ARCHIVE_COLLECTION);
+    }
+
+    @Override
+    public Optional<Booking> findArchivedById(String id) {
+        return Optional.ofNullable(mongoTemplate.findById(id, Booking.class, Booking.ARCHIVE_COLLECTION));
+    }
+
+    @Override
+    public boolean existsArchivedById(String id) {
+        return mongoTemplate.exists(Query.query(Criteria.where("id").is(id)), Booking.class, Booking.ARCHIVE_COLLECTION);
+    }
+
+    @Override
+    public Booking patch(Criteria criteria, Update update) {
+        return mongoTemplate.findAndModify(new Query(criteria), update,
+                FindAndModifyOptions.options().returnNew(true), Booking.class);
+    }
+
+    @Override
+    public boolean deleteMatching(Criteria criteria) {
+        return mongoTemplate.remove(new Query(criteria), Booking.class).getDeletedCount() > 0;
+    }
+
+    @Override
+    public boolean existsActiveSlot(String yachtId, LocalDate serviceDate, String slotId, String excludeBookingId) {
+        return mongoTemplate.exists(new Query(activeSlotCriteria(yachtId, serviceDate, slotId, excludeBookingId)),
+                Booking.class);
+    }
+
+    @Override
+    public List<LocalDate> findTakenDates(String yachtId, String slotId, Collection<LocalDate> dates) {
+        Query query = new Query(Criteria.where("yachtId").is(yachtId)
+                .and("serviceDate").in(dates)
+                .and("slotId").is(slotId)
+                .and("status").in(ACTIVE_STATUSES));
+        query.fields().include("serviceDate");
+        return mongoTemplate.find(query, Booking.class).stream().map(Booking::getServiceDate).toList();
+    }
+
+    @Override
+    public long updateAll(Criteria criteria, Update update) {
+        return mongoTemplate.updateMulti(new Query(criteria), update, Booking.class).getModifiedCount();
+    }
+
+    @Override
+    public long updateEach(List<RowUpdate> updates) {
+        if (updates.isEmpty()) {
+            return 0;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Booking.class);
+        updates.forEach(row -> bulk.updateOne(new Query(row.criteria()), row.update()));
+        return bulk.execute().getModifiedCount();
+    }
+
+    @Override
+    public Stream<Booking> streamActiveSlots() {
+        Query query = new Query(Criteria.where("status").ne(BookingStatus.CANCELLED));
+        query.fields().include("yachtId", "serviceDate", "slotId", "status");
+        return mongoTemplate.stream(query, Booking.class);
+    }
+
+    // ===== HELPER =====
+    // Live bookings of one slot; shared with the reactive repository
+    static Criteria activeSlotCriteria(String yachtId, LocalDate serviceDate, String slotId, String excludeBookingId) {
+        Criteria criteria = Criteria.where("yachtId").is(yachtId)
+                .and("serviceDate").is(serviceDate)
+                .and("slotId").is(slotId)
+                .and("status").in(ACTIVE_STATUSES);
+        if (excludeBookingId != null) {
+            criteria.and("id").ne(excludeBookingId);
+        }
+        return criteria;
+    }
+
+    private static Query streamQuery(BookingFilter filter) {
+        List<Criteria> clauses = filterClauses(filter);
+        return new Query(clauses.isEmpty() ? new Criteria() : new Criteria().andOperator(clauses))
+                .with(Sort.by(Sort.Order.asc("serviceDate"), Sort.Order.asc("id")))
+                .cursorBatchSize(STREAM_BATCH_SIZE);
+    }
+
+    // Shared with the reactive repository
+    // Slot holds (HELD) are only listed when asked for by status
+    static List<Criteria> filterClauses(BookingFilter filter) {
+        List<Criteria> clauses = new ArrayList<>();
+        if (filter == null || filter.getStatus() == null) {
+            clauses.add(Criteria.where("status").ne(BookingStatus.HELD));
+        }
+        if (filter == null) {
+            return clauses;
+        }
+
+        if (filter.getYachtId() != null)
+            clauses.add(Criteria.where("yachtId").is(filter.getYachtId()));
+        if (filter.getStatus() != null)
+            clauses.add(Criteria.where("status").is(filter.getStatus()));
+
+        if (filter.getFrom() != null && filter.getTo() != null)
+            clauses.add(Criteria.where("serviceDate").gte(filter.getFrom()).lte(filter.getTo()));
+        else if (filter.getFrom() != null)
+            clauses.add(Criteria.where("serviceDate").gte(filter.getFrom()));
+        else if (filter.getTo() != null)
+            clauses.add(Criteria.where("serviceDate").lte(filter.getTo()));
+
+        return clauses;
+    }
+}
@@ -0,0 +1,12 @@
+package dev.system.yatch.repository;
+
+import dev.system.yatch.entity.Booking;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Non-blocking twin of BookingRepository, used by the /api/v2 endpoints
+ */
+@Repository
+public interface ReactiveBookingRepository extends ReactiveMongoRepository<Booking, String>, ReactiveBookingRepositoryCustom {
+}
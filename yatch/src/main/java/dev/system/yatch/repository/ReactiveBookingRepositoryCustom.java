@@ -0,0 +1,22 @@
+package dev.system.yatch.repository;
+
+import dev.system.yatch.dto.request.BookingFilter;
+import dev.system.yatch.entity.Booking;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+public interface ReactiveBookingRepositoryCustom {
+
+    // Ordered by (serviceDate, id); the cursor fetches further batches only as downstream demands them
+    Flux<Booking> streamByFilter(BookingFilter filter);
+
+    // Same contract as BookingRepositoryCustom.patch; empty when nothing matched
+    Mono<Booking> patch(Criteria criteria, Update update);
+
+    // Same contract as BookingRepositoryCustom.existsActiveSlot
+    Mono<Boolean> existsActiveSlot(String yachtId, LocalDate serviceDate, String slotId, String excludeBookingId);
+}
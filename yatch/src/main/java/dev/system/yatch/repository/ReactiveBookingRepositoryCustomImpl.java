@@ -0,0 +1,46 @@
+package dev.system.yatch.repository;
+
+import dev.system.yatch.dto.request.BookingFilter;
+import dev.system.yatch.entity.Booking;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ReactiveBookingRepositoryCustomImpl implements ReactiveBookingRepositoryCustom {
+
+    private static final int STREAM_BATCH_SIZE = 500;
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Override
+    public Flux<Booking> streamByFilter(BookingFilter filter) {
+        List<Criteria> clauses = BookingRepositoryCustomImpl.filterClauses(filter);
+        Query query = new Query(clauses.isEmpty() ? new Criteria() : new Criteria().andOperator(clauses))
+                .with(Sort.by(Sort.Order.asc("serviceDate"), Sort.Order.asc("id")))
+                .cursorBatchSize(STREAM_BATCH_SIZE);
+        return reactiveMongoTemplate.find(query, Booking.class);
+    }
+
+    @Override
+    public Mono<Booking> patch(Criteria criteria, Update update) {
+        return reactiveMongoTemplate.findAndModify(new Query(criteria), update,
+                FindAndModifyOptions.options().returnNew(true), Booking.class);
+    }
+
+    @Override
+    public Mono<Boolean> existsActiveSlot(String yachtId, LocalDate serviceDate, String slotId,
+            String excludeBookingId) {
+        return reactiveMongoTemplate.exists(new Query(BookingRepositoryCustomImpl.activeSlotCriteria(
+                yachtId, serviceDate, slotId, excludeBookingId)), Booking.class);
+    }
+}
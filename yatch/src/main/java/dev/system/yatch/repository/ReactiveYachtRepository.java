@@ -0,0 +1,9 @@
+package dev.system.yatch.repository;
+
+import dev.system.yatch.entity.Yacht;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReactiveYachtRepository extends ReactiveMongoRepository<Yacht, String> {
+}
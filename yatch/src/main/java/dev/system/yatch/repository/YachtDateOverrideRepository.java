@@ -0,0 +1,25 @@
+package dev.system.yatch.repository;
+
+import dev.system.yatch.entity.YachtDateOverride;
+import org.springframework.data.domain.Range;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface YachtDateOverrideRepository extends MongoRepository<YachtDateOverride, String> {
+    // Pass Range.closed(from, to): plain from/to arguments make Between exclusive ($gt / $lt)
+    List<YachtDateOverride> findByYachtIdAndDateBetweenOrderByDateAsc(String yachtId, Range<LocalDate> dates);
+
+    List<YachtDateOverride> findByDateBetweenOrderByDateAsc(Range<LocalDate> dates);
+
+    List<YachtDateOverride> findByYachtIdIn(Collection<String> yachtIds);
+
+    Optional<YachtDateOverride> findByYachtIdAndDate(String yachtId, LocalDate date);
+
+    long deleteByYachtIdAndDate(String yachtId, LocalDate date);
+
+    long deleteByYachtId(String yachtId);
+}
@@ -0,0 +1,18 @@
+package dev.system.yatch.service;
+
+import dev.system.yatch.dto.response.AvailabilityResponse;
+import dev.system.yatch.entity.Booking;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface AvailabilityService {
+    List<AvailabilityResponse> getAvailability(String yachtId, LocalDate from, LocalDate to);
+
+    boolean isOccupied(String yachtId, LocalDate date, String slotId, String excludeBookingId);
+
+    // Record the current state of a saved booking (cancelled bookings release their slot)
+    void track(Booking booking);
+
+    void untrack(String bookingId);
+}
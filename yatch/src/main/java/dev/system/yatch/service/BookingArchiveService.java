@@ -0,0 +1,20 @@
+package dev.system.yatch.service;
+
+import dev.system.yatch.dto.request.BookingFilter;
+import dev.system.yatch.dto.response.ArchiveRunResponse;
+
+import java.time.LocalDate;
+
+/**
+ * Cold tier for settled bookings (USED, NO_SHOW, CANCELLED) past the archive horizon.
+ */
+public interface BookingArchiveService {
+    // Moves archivable bookings in batches; an interrupted run resumes from its checkpoint
+    ArchiveRunResponse archive();
+
+    // True when bookings matching the filter may be in bookings_archive
+    boolean reaches(BookingFilter filter);
+
+    // True when service dates from 'from' onwards may be in bookings_archive (null = unbounded)
+    boolean reaches(LocalDate from);
+}
@@ -0,0 +1,20 @@
+package dev.system.yatch.service;
+
+import dev.system.yatch.dto.request.BookingSeriesRequest;
+import dev.system.yatch.dto.request.BookingSeriesUpdate;
+import dev.system.yatch.dto.response.BookingSeriesResponse;
+
+import java.time.LocalDate;
+
+public interface BookingSeriesService {
+    // One booking per expanded date, inserted in one bulk write; 409 on a taken date unless skipConflicts
+    BookingSeriesResponse create(BookingSeriesRequest request);
+
+    BookingSeriesResponse get(String seriesId);
+
+    // Same change on every booking of the series (one updateMany)
+    BookingSeriesResponse update(String seriesId, BookingSeriesUpdate request);
+
+    // Cancels the live bookings dated from (default today) onwards (one updateMany)
+    BookingSeriesResponse cancel(String seriesId, String reason, LocalDate from);
+}
@@ -1,18 +1,37 @@
 package dev.system.yatch.service;
 
+import dev.system.yatch.dto.request.BatchBookingRequest;
+import dev.system.yatch.dto.request.BookingFilter;
 import dev.system.yatch.dto.request.BookingRequest;
+import dev.system.yatch.dto.response.BatchBookingResponse;
+import dev.system.yatch.dto.response.BookingPageResponse;
 import dev.system.yatch.dto.response.BookingResponse;
+import dev.system.yatch.dto.response.CalendarMonthResponse;
+import dev.system.yatch.dto.response.SparsePageResponse;
+import dev.system.yatch.enums.ExportFormat;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.OutputStream;
 
 public interface BookingService {
-    List<BookingResponse> getAllBookings();
+    BookingPageResponse getBookings(BookingFilter filter, String cursor, int limit);
+
+    // Same page, limited to the requested fields (?fields=a,b and/or view=summary); projected in Mongo
+    SparsePageResponse getBookingFields(BookingFilter filter, String cursor, int limit, String fields, String view);
 
     BookingResponse getBookingById(String id);
 
+    CalendarMonthResponse getMonthCalendar(int year, int month, String yachtId);
+
     BookingResponse createBooking(BookingRequest request);
 
-    BookingResponse updateBooking(String id, BookingRequest request);
+    // expectedVersion comes from If-Match and may be null; a stale version fails with 412
+    BookingResponse updateBooking(String id, BookingRequest request, Long expectedVersion);
+
+    BatchBookingResponse createBookings(BatchBookingRequest request);
+
+    void deleteBooking(String id, Long expectedVersion);
 
-    void deleteBooking(String id);
+    // Streams matching bookings row by row; memory use does not depend on row count
+    void exportBookings(BookingFilter filter, ExportFormat format, OutputStream out) throws IOException;
 }
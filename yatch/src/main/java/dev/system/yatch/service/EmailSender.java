@@ -0,0 +1,14 @@
+package dev.system.yatch.service;
+
+import dev.system.yatch.dto.common.EmailMessage;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Delivery end of the booking email outbox; selected by yatch.mail.sender (log, file)
+ */
+public interface EmailSender {
+    // Sends a batch; returns the error per EmailMessage.bookingId for messages that failed
+    Map<String, String> send(List<EmailMessage> messages);
+}
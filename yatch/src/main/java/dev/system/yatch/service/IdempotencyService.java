@@ -0,0 +1,9 @@
+package dev.system.yatch.service;
+
+import java.util.function.Supplier;
+
+public interface IdempotencyService {
+    // Runs action once per (operation, key); a repeat with the same key and request returns the stored
+    // result without running it again. A null key runs the action as usual. Failed runs are not stored.
+    <T> T execute(String operation, String key, Object request, Class<T> resultType, Supplier<T> action);
+}
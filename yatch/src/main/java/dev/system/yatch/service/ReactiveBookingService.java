@@ -0,0 +1,23 @@
+package dev.system.yatch.service;
+
+import dev.system.yatch.dto.request.BookingFilter;
+import dev.system.yatch.dto.request.BookingRequest;
+import dev.system.yatch.dto.response.BookingResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking booking API (/api/v2/bookings); same rules as BookingService
+ */
+public interface ReactiveBookingService {
+    // Emits rows as the client consumes them
+    Flux<BookingResponse> streamBookings(BookingFilter filter);
+
+    Mono<BookingResponse> getBookingById(String id);
+
+    Mono<BookingResponse> createBooking(BookingRequest request);
+
+    Mono<BookingResponse> updateBooking(String id, BookingRequest request);
+
+    Mono<Void> deleteBooking(String id);
+}
@@ -0,0 +1,21 @@
+package dev.system.yatch.service;
+
+import dev.system.yatch.dto.request.YachtRequest;
+import dev.system.yatch.dto.response.YachtResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking yacht API (/api/v2/yachts)
+ */
+public interface ReactiveYachtService {
+    Flux<YachtResponse> getAllYachts();
+
+    Mono<YachtResponse> getYachtById(String id);
+
+    Mono<YachtResponse> createYacht(YachtRequest request);
+
+    Mono<YachtResponse> updateYacht(String id, YachtRequest request);
+
+    Mono<Void> deleteYacht(String id);
+}
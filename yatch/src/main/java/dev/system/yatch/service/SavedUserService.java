@@ -5,17 +5,25 @@ import dev.system.yatch.dto.response.SavedUserResponse;
 import dev.system.yatch.enums.UserType;
 
 import java.util.List;
+import java.util.Map;
 
 public interface SavedUserService {
     List<SavedUserResponse> getAll();
 
     List<SavedUserResponse> getByType(UserType type);
 
+    // Only the requested fields (?fields=a,b and/or view=summary), projected in Mongo; type is optional
+    List<Map<String, Object>> getFields(UserType type, String fields, String view);
+
+    // Type-ahead: users whose name, name word, phone or userId starts with prefix; type is optional
+    List<SavedUserResponse> suggest(String prefix, UserType type, int limit);
+
     SavedUserResponse getById(String id);
 
     SavedUserResponse create(SavedUserRequest request);
 
-    SavedUserResponse update(String id, SavedUserRequest request);
+    // expectedVersion comes from If-Match and may be null; a stale version fails with 412
+    SavedUserResponse update(String id, SavedUserRequest request, Long expectedVersion);
 
-    void delete(String id);
+    void delete(String id, Long expectedVersion);
 }
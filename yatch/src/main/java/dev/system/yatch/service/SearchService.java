@@ -0,0 +1,9 @@
+package dev.system.yatch.service;
+
+import dev.system.yatch.dto.response.SearchResponse;
+import dev.system.yatch.enums.SearchScope;
+
+public interface SearchService {
+    // Ranked hits for a name, phone, email, bookingId or userId fragment; page is zero-based
+    SearchResponse search(String q, SearchScope scope, int page, int size);
+}
@@ -0,0 +1,11 @@
+package dev.system.yatch.service;
+
+import java.util.function.LongSupplier;
+
+public interface SequenceService {
+    /**
+     * Next number of the named sequence (unique across nodes, increasing per node, may have gaps).
+     * floor is only consulted the first time the sequence is created; numbering starts after it.
+     */
+    long next(String name, LongSupplier floor);
+}
@@ -0,0 +1,24 @@
+package dev.system.yatch.service;
+
+import dev.system.yatch.dto.request.BookingRequest;
+import dev.system.yatch.dto.request.HoldRequest;
+import dev.system.yatch.dto.response.HoldResponse;
+import dev.system.yatch.entity.Booking;
+
+import java.time.LocalDate;
+
+public interface SlotHoldService {
+    // Reserves the slot for a few minutes; 409 when it is booked or held by someone else
+    HoldResponse hold(HoldRequest request);
+
+    void release(String holdId);
+
+    // The live hold named by request.holdId; fills in the slot fields the request left out
+    Booking claim(BookingRequest request);
+
+    // Turns the hold row into the booking in one write (same _id, so the slot never frees up)
+    Booking convert(Booking hold, Booking booking);
+
+    // Deletes a lapsed hold still occupying the slot; true when there was one
+    boolean releaseExpired(String yachtId, LocalDate serviceDate, String slotId);
+}
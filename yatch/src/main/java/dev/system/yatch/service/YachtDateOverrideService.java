@@ -0,0 +1,27 @@
+package dev.system.yatch.service;
+
+import dev.system.yatch.dto.common.TimeSlotDTO;
+import dev.system.yatch.dto.response.DateOverrideResponse;
+import dev.system.yatch.dto.response.YachtResponse;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+public interface YachtDateOverrideService {
+    // Omit yachtId to get the whole fleet; from/to inclusive
+    List<DateOverrideResponse> getOverrides(String yachtId, LocalDate from, LocalDate to);
+
+    DateOverrideResponse putOverride(String yachtId, LocalDate date, List<TimeSlotDTO> slots);
+
+    void deleteOverride(String yachtId, LocalDate date);
+
+    // Legacy write path: the map replaces the yacht's overrides between its first and last date
+    // (an empty map removes them all)
+    void replaceAll(String yachtId, Map<String, List<TimeSlotDTO>> overrides);
+
+    void deleteAll(String yachtId);
+
+    // Legacy view: fills YachtResponse.dateOverrides from the collection
+    List<YachtResponse> withDateOverrides(List<YachtResponse> yachts);
+}
@@ -4,15 +4,20 @@ import dev.system.yatch.dto.request.YachtRequest;
 import dev.system.yatch.dto.response.YachtResponse;
 
 import java.util.List;
+import java.util.Map;
 
 public interface YachtService {
     List<YachtResponse> getAllYachts();
 
+    // Only the requested fields (?fields=a,b and/or view=summary) per yacht
+    List<Map<String, Object>> getYachtFields(String fields, String view);
+
     YachtResponse getYachtById(String id);
 
     YachtResponse createYacht(YachtRequest request);
 
-    YachtResponse updateYacht(String id, YachtRequest request);
+    // expectedVersion comes from If-Match and may be null; a stale version fails with 412
+    YachtResponse updateYacht(String id, YachtRequest request, Long expectedVersion);
 
-    void deleteYacht(String id);
+    void deleteYacht(String id, Long expectedVersion);
 }
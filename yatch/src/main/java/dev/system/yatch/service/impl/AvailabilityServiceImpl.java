@@ -0,0 +1,197 @@
+package dev.system.yatch.service.impl;
+
+import dev.system.yatch.dto.response.AvailabilityResponse;
+import dev.system.yatch.entity.Booking;
+import dev.system.yatch.enums.BookingStatus;
+import dev.system.yatch.repository.BookingRepository;
+import dev.system.yatch.service.AvailabilityService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+/**
+ * In-memory availability index.
+ * Keeps one bitmap of occupied slot ordinals per (yacht, date).
+ * Bitmaps are replaced copy-on-write, so reads never lock; writes are serialized.
+ * The unique slot index in Mongo stays authoritative - this is only a fast pre-check.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class AvailabilityServiceImpl implements AvailabilityService {
+
+    static final int MAX_RANGE_DAYS = 366;
+
+    private final BookingRepository bookingRepository;
+
+    // yachtId -> slotId -> ordinal, and the reverse ordinal -> slotId
+    private final Map<String, Map<String, Integer>> slotOrdinals = new ConcurrentHashMap<>();
+    private final Map<String, List<String>> slotIds = new ConcurrentHashMap<>();
+
+    // (yacht, date) -> occupied ordinals (immutable once published)
+    private final Map<SlotDay, BitSet> occupied = new ConcurrentHashMap<>();
+
+    // Ownership, so an out-of-order release cannot clear a slot another booking holds
+    private final Map<String, Occupancy> byBooking = new HashMap<>();
+    private final Map<Occupancy, String> owners = new HashMap<>();
+
+    private record SlotDay(String yachtId, LocalDate date) {
+    }
+
+    private record Occupancy(SlotDay day, int ordinal) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long start = System.currentTimeMillis();
+        int count = 0;
+        try (Stream<Booking> bookings = bookingRepository.streamActiveSlots()) {
+            for (Booking booking : (Iterable<Booking>) bookings::iterator) {
+                track(booking);
+                count++;
+            }
+        }
+        log.info("Availability index warmed with {} bookings in {} ms", count, System.currentTimeMillis() - start);
+    }
+
+    @Override
+    public List<AvailabilityResponse> getAvailability(String yachtId, LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("from and to are required");
+        }
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("Date range is invalid (max " + MAX_RANGE_DAYS + " days)");
+        }
+
+        List<String> yachtIds = yachtId != null ? List.of(yachtId) : new ArrayList<>(slotIds.keySet());
+        List<AvailabilityResponse> result = new ArrayList<>();
+
+        for (String yacht : yachtIds) {
+            List<String> names = slotIds.get(yacht);
+            if (names == null) {
+                continue;
+            }
+            for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                BitSet bits = occupied.get(new SlotDay(yacht, date));
+                if (bits == null || bits.isEmpty()) {
+                    continue;
+                }
+                List<String> booked = new ArrayList<>(bits.cardinality());
+                for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+                    booked.add(names.get(i));
+                }
+                result.add(AvailabilityResponse.builder()
+                        .yachtId(yacht)
+                        .date(date)
+                        .bookedSlotIds(booked)
+                        .build());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isOccupied(String yachtId, LocalDate date, String slotId, String excludeBookingId) {
+        if (yachtId == null || date == null || slotId == null) {
+            return false;
+        }
+        Map<String, Integer> ordinals = slotOrdinals.get(yachtId);
+        Integer ordinal = ordinals != null ? ordinals.get(slotId) : null;
+        if (ordinal == null) {
+            return false;
+        }
+        BitSet bits = occupied.get(new SlotDay(yachtId, date));
+        if (bits == null || !bits.get(ordinal)) {
+            return false;
+        }
+        if (excludeBookingId == null) {
+            return true;
+        }
+        // Slow path only when a booking re-validates its own slot
+        synchronized (this) {
+            return !excludeBookingId.equals(owners.get(new Occupancy(new SlotDay(yachtId, date), ordinal)));
+        }
+    }
+
+    @Override
+    public synchronized void track(Booking booking) {
+        if (booking == null || booking.getId() == null) {
+            return;
+        }
+        boolean active = booking.getStatus() != BookingStatus.CANCELLED
+                && booking.getYachtId() != null
+                && booking.getServiceDate() != null
+                && booking.getSlotId() != null;
+
+        Occupancy next = active
+                ? new Occupancy(new SlotDay(booking.getYachtId(), booking.getServiceDate()),
+                        ordinalOf(booking.getYachtId(), booking.getSlotId()))
+                : null;
+
+        Occupancy prev = byBooking.get(booking.getId());
+        if (prev != null && prev.equals(next)) {
+            return;
+        }
+        if (prev != null) {
+            release(booking.getId(), prev);
+        }
+        if (next != null) {
+            byBooking.put(booking.getId(), next);
+            owners.put(next, booking.getId());
+            occupied.compute(next.day(), (day, bits) -> {
+                BitSet copy = bits != null ? (BitSet) bits.clone() : new BitSet();
+                copy.set(next.ordinal());
+                return copy;
+            });
+        }
+    }
+
+    @Override
+    public synchronized void untrack(String bookingId) {
+        Occupancy prev = byBooking.get(bookingId);
+        if (prev != null) {
+            release(bookingId, prev);
+        }
+    }
+
+    // ===== HELPER =====
+    // Caller holds the lock
+    private void release(String bookingId, Occupancy occupancy) {
+        byBooking.remove(bookingId);
+        if (!bookingId.equals(owners.get(occupancy))) {
+            return;
+        }
+        owners.remove(occupancy);
+        occupied.computeIfPresent(occupancy.day(), (day, bits) -> {
+            BitSet copy = (BitSet) bits.clone();
+            copy.clear(occupancy.ordinal());
+            return copy.isEmpty() ? null : copy;
+        });
+    }
+
+    // Caller holds the lock
+    private int ordinalOf(String yachtId, String slotId) {
+        Map<String, Integer> ordinals = slotOrdinals.computeIfAbsent(yachtId, k -> new ConcurrentHashMap<>());
+        Integer ordinal = ordinals.get(slotId);
+        if (ordinal != null) {
+            return ordinal;
+        }
+        List<String> names = slotIds.computeIfAbsent(yachtId, k -> new CopyOnWriteArrayList<>());
+        names.add(slotId);
+        ordinals.put(slotId, names.size() - 1);
+        return names.size() - 1;
+    }
+}
@@ -0,0 +1,273 @@
+package dev.system.yatch.service.impl;
+
+import dev.system.yatch.dto.request.BookingFilter;
+import dev.system.yatch.dto.response.ArchiveRunResponse;
+import dev.system.yatch.entity.ArchiveCheckpoint;
+import dev.system.yatch.entity.Booking;
+import dev.system.yatch.enums.BookingStatus;
+import dev.system.yatch.service.AvailabilityService;
+import dev.system.yatch.service.BookingArchiveService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Moves settled bookings older than the horizon from bookings to bookings_archive.
+ * Each batch is written with one unordered bulk of upserts, then removed from the hot collection,
+ * and the checkpoint advances. Re-running a batch is harmless: archive copies are replaced by _id,
+ * so a crash between copy and delete leaves a copy that the resumed run overwrites with the
+ * current version. The delete is guarded on the version that was copied; a booking edited in
+ * between stays hot and its stale copy is dropped. Runs hold a lease on the checkpoint, one node at a time.
+ */
+@Service
+@Slf4j
+public class BookingArchiveServiceImpl implements BookingArchiveService {
+
+    static final String CHECKPOINT_ID = "bookings";
+    static final Set<BookingStatus> ARCHIVED_STATUSES = EnumSet.of(
+            BookingStatus.USED, BookingStatus.NO_SHOW, BookingStatus.CANCELLED);
+
+    private final MongoTemplate mongoTemplate;
+    private final AvailabilityService availabilityService;
+    private final int horizonDays;
+    private final int batchSize;
+    private final Duration lease;
+
+    // Every archived booking has serviceDate < archivedBefore; null while the archive is empty
+    private volatile LocalDate archivedBefore;
+
+    public BookingArchiveServiceImpl(MongoTemplate mongoTemplate, AvailabilityService availabilityService,
+            @Value("${yatch.archive.horizon-days:180}") int horizonDays,
+            @Value("${yatch.archive.batch-size:500}") int batchSize,
+            @Value("${yatch.archive.lease:PT10M}") Duration lease) {
+        this.mongoTemplate = mongoTemplate;
+        this.availabilityService = availabilityService;
+        this.horizonDays = horizonDays;
+        this.batchSize = batchSize;
+        this.lease = lease;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        // Read-path indexes only; no unique slot index, archived bookings never hold a slot
+        IndexOperations indexes = mongoTemplate.indexOps(Booking.ARCHIVE_COLLECTION);
+        indexes.createIndex(new Index().on("serviceDate", Sort.Direction.ASC).on("_id", Sort.Direction.ASC)
+                .named("serviceDate_id"));
+        indexes.createIndex(new Index().on("yachtId", Sort.Direction.ASC).on("serviceDate", Sort.Direction.ASC)
+                .on("_id", Sort.Direction.ASC).named("yacht_serviceDate_id"));
+        indexes.createIndex(new Index().on("status", Sort.Direction.ASC).on("serviceDate", Sort.Direction.ASC)
+                .on("_id", Sort.Direction.ASC).named("status_serviceDate_id"));
+        indexes.createIndex(new Index().on("bookingId", Sort.Direction.ASC).unique().named(Booking.BOOKING_ID_INDEX));
+        indexes.createIndex(new Index().on("searchKeys", Sort.Direction.ASC).named(Booking.SEARCH_KEYS_INDEX));
+        refreshBoundary();
+    }
+
+    // Other nodes move the boundary too; keep this node's read routing current
+    @Scheduled(fixedDelayString = "${yatch.archive.refresh-interval:PT1M}",
+            initialDelayString = "${yatch.archive.refresh-interval:PT1M}")
+    public void refreshBoundary() {
+        ArchiveCheckpoint checkpoint = mongoTemplate.findById(CHECKPOINT_ID, ArchiveCheckpoint.class);
+        if (checkpoint != null && checkpoint.getArchivedBefore() != null) {
+            archivedBefore = checkpoint.getArchivedBefore();
+        }
+    }
+
+    @Scheduled(cron = "${yatch.archive.cron:0 30 3 * * *}", zone = "${yatch.archive.zone:Asia/Bangkok}")
+    public void scheduledArchive() {
+        String owner = UUID.randomUUID().toString();
+        ArchiveCheckpoint checkpoint = acquire(owner);
+        if (checkpoint == null) {
+            log.info("Skipping archive run: another node holds the lease");
+            return;
+        }
+        ArchiveRunResponse run = archive(checkpoint, owner);
+        log.info("Archived {} bookings with serviceDate before {}", run.getMoved(), run.getCutoff());
+    }
+
+    @Override
+    public ArchiveRunResponse archive() {
+        String owner = UUID.randomUUID().toString();
+        ArchiveCheckpoint checkpoint = acquire(owner);
+        if (checkpoint == null) {
+            // Mapped to 409 by GlobalExceptionHandler
+            throw new RuntimeException("An archive run is already in progress");
+        }
+        return archive(checkpoint, owner);
+    }
+
+    private ArchiveRunResponse archive(ArchiveCheckpoint leased, String owner) {
+        try {
+            return run(leased, owner);
+        } finally {
+            mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(CHECKPOINT_ID).and("owner").is(owner)),
+                    new Update().unset("owner").unset("leaseUntil"), ArchiveCheckpoint.class);
+        }
+    }
+
+    private ArchiveRunResponse run(ArchiveCheckpoint leased, String owner) {
+        ArchiveCheckpoint checkpoint = leased;
+        if (checkpoint.getCompletedAt() != null || checkpoint.getCutoff() == null) {
+            checkpoint = ArchiveCheckpoint.builder()
+                    .id(CHECKPOINT_ID)
+                    .cutoff(LocalDate.now().minusDays(horizonDays))
+                    .archivedBefore(leased.getArchivedBefore())
+                    .startedAt(LocalDateTime.now())
+                    .owner(owner)
+                    .leaseUntil(leased.getLeaseUntil())
+                    .build();
+        }
+
+        // Route reads to the archive before the first booking moves
+        LocalDate cutoff = checkpoint.getCutoff();
+        if (checkpoint.getArchivedBefore() == null || cutoff.isAfter(checkpoint.getArchivedBefore())) {
+            checkpoint.setArchivedBefore(cutoff);
+        }
+        mongoTemplate.save(checkpoint);
+        archivedBefore = checkpoint.getArchivedBefore();
+
+        for (;;) {
+            List<Booking> batch = nextBatch(cutoff, checkpoint.getLastServiceDate(), checkpoint.getLastId());
+            if (batch.isEmpty()) {
+                break;
+            }
+            copyToArchive(batch);
+            int moved = removeArchived(batch, cutoff);
+
+            // Progress and lease renewal in one write; a lost lease means another node took over
+            Booking last = batch.get(batch.size() - 1);
+            checkpoint.setLastServiceDate(last.getServiceDate());
+            checkpoint.setLastId(last.getId());
+            checkpoint.setMoved(checkpoint.getMoved() + moved);
+            boolean renewed = mongoTemplate.updateFirst(
+                    Query.query(Criteria.where("id").is(CHECKPOINT_ID).and("owner").is(owner)),
+                    new Update()
+                            .set("lastServiceDate", last.getServiceDate())
+                            .set("lastId", last.getId())
+                            .inc("moved", moved)
+                            .set("leaseUntil", LocalDateTime.now().plus(lease)),
+                    ArchiveCheckpoint.class).getModifiedCount() == 1;
+            if (!renewed) {
+                throw new IllegalStateException("Archive lease expired mid-run; another node resumes from the checkpoint");
+            }
+        }
+
+        checkpoint.setCompletedAt(LocalDateTime.now());
+        mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(CHECKPOINT_ID).and("owner").is(owner)),
+                new Update().set("completedAt", checkpoint.getCompletedAt()), ArchiveCheckpoint.class);
+        return ArchiveRunResponse.builder()
+                .cutoff(cutoff)
+                .archivedBefore(checkpoint.getArchivedBefore())
+                .moved(checkpoint.getMoved())
+                .startedAt(checkpoint.getStartedAt())
+                .completedAt(checkpoint.getCompletedAt())
+                .build();
+    }
+
+    @Override
+    public boolean reaches(BookingFilter filter) {
+        if (filter != null && filter.getStatus() != null && !ARCHIVED_STATUSES.contains(filter.getStatus())) {
+            return false;
+        }
+        return reaches(filter != null ? filter.getFrom() : null);
+    }
+
+    @Override
+    public boolean reaches(LocalDate from) {
+        LocalDate boundary = archivedBefore;
+        return boundary != null && (from == null || from.isBefore(boundary));
+    }
+
+    // ===== HELPER =====
+    // The checkpoint as a lease: taken when free or expired, upserted on first use; null while another run holds it
+    private ArchiveCheckpoint acquire(String owner) {
+        LocalDateTime now = LocalDateTime.now();
+        Query free = new Query(Criteria.where("id").is(CHECKPOINT_ID).orOperator(
+                Criteria.where("leaseUntil").is(null),
+                Criteria.where("leaseUntil").lt(now)));
+        try {
+            return mongoTemplate.findAndModify(free,
+                    new Update().set("owner", owner).set("leaseUntil", now.plus(lease)),
+                    FindAndModifyOptions.options().returnNew(true).upsert(true), ArchiveCheckpoint.class);
+        } catch (DuplicateKeyException e) {
+            // The checkpoint exists and its lease is live
+            return null;
+        }
+    }
+
+    // Removes the archived rows that are still settled, past the cutoff and at the version copied.
+    // A booking edited since it was read stays hot, and its stale archive copy is dropped.
+    private int removeArchived(List<Booking> batch, LocalDate cutoff) {
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Booking.class);
+        List<String> ids = new ArrayList<>(batch.size());
+        for (Booking booking : batch) {
+            bulk.remove(new Query(Patches.idAndVersion(booking.getId(), Patches.versionOf(booking.getVersion()))
+                    .and("status").in(ARCHIVED_STATUSES)
+                    .and("serviceDate").lt(cutoff)));
+            ids.add(booking.getId());
+        }
+        int removed = bulk.execute().getDeletedCount();
+
+        List<String> kept = new ArrayList<>();
+        if (removed < batch.size()) {
+            Query stillHot = new Query(Criteria.where("id").in(ids));
+            stillHot.fields().include("id");
+            mongoTemplate.find(stillHot, Booking.class).forEach(b -> kept.add(b.getId()));
+            mongoTemplate.remove(new Query(Criteria.where("id").in(kept)), Booking.class, Booking.ARCHIVE_COLLECTION);
+        }
+        ids.stream().filter(id -> !kept.contains(id)).forEach(availabilityService::untrack);
+        return removed;
+    }
+
+    // Keyset over (serviceDate, _id) after the checkpoint, served by status_serviceDate_id
+    private List<Booking> nextBatch(LocalDate cutoff, LocalDate afterDate, String afterId) {
+        List<Criteria> clauses = new ArrayList<>();
+        clauses.add(Criteria.where("status").in(ARCHIVED_STATUSES));
+        clauses.add(Criteria.where("serviceDate").lt(cutoff));
+        if (afterDate != null && afterId != null) {
+            clauses.add(new Criteria().orOperator(
+                    Criteria.where("serviceDate").gt(afterDate),
+                    new Criteria().andOperator(
+                            Criteria.where("serviceDate").is(afterDate),
+                            Criteria.where("id").gt(afterId))));
+        }
+        Query query = new Query(new Criteria().andOperator(clauses))
+                .with(Sort.by(Sort.Order.asc("serviceDate"), Sort.Order.asc("id")))
+                .limit(batchSize);
+        return mongoTemplate.find(query, Booking.class);
+    }
+
+    // Upserts by _id: a copy left behind by an interrupted run may be older than the booking now,
+    // so it is replaced rather than kept. Any write error aborts the run before the hot delete.
+    private void copyToArchive(List<Booking> batch) {
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Booking.class,
+                Booking.ARCHIVE_COLLECTION);
+        for (Booking booking : batch) {
+            bulk.replaceOne(Query.query(Criteria.where("id").is(booking.getId())), booking,
+                    FindAndReplaceOptions.options().upsert());
+        }
+        bulk.execute();
+    }
+}
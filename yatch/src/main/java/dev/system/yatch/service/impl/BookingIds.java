@@ -0,0 +1,29 @@
+package dev.system.yatch.service.impl;
+
+import dev.system.yatch.repository.BookingRepository;
+import dev.system.yatch.service.SequenceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Human-readable booking ids ("YB-<year>-<seq>").
+ * Blocks only when a new block of numbers is leased (see SequenceServiceImpl).
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingIds {
+
+    private final SequenceService sequenceService;
+    private final BookingRepository bookingRepository;
+
+    // Per-year sequence; the first use counts existing ids of that year
+    public String next() {
+        int year = LocalDate.now().getYear();
+        String prefix = "YB-" + year + "-";
+        long seq = sequenceService.next("booking-" + year,
+                () -> bookingRepository.countByBookingIdStartingWith(prefix));
+        return String.format("%s%04d", prefix, seq);
+    }
+}
@@ -0,0 +1,34 @@
+package dev.system.yatch.service.impl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Business counters for the booking flow, tagged by yacht
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingMetrics {
+
+    private static final String UNKNOWN = "unknown";
+
+    private final MeterRegistry meterRegistry;
+
+    public void slotConflict(String yachtId) {
+        meterRegistry.counter("yatch.booking.conflicts", "yacht", tag(yachtId)).increment();
+    }
+
+    // yachtId is only tagged for yachts that exist (keeps tag cardinality bounded)
+    public void notFound(String entity, String yachtId) {
+        meterRegistry.counter("yatch.booking.not_found", "entity", entity, "yacht", tag(yachtId)).increment();
+    }
+
+    public void validationFailed(String yachtId) {
+        meterRegistry.counter("yatch.booking.validation_errors", "yacht", tag(yachtId)).increment();
+    }
+
+    private String tag(String yachtId) {
+        return yachtId != null ? yachtId : UNKNOWN;
+    }
+}
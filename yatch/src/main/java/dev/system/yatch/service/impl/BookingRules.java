@@ -0,0 +1,306 @@
+package dev.system.yatch.service.impl;
+
+import dev.system.yatch.dto.common.TimeSlotDTO;
+import dev.system.yatch.dto.request.BookingRequest;
+import dev.system.yatch.dto.response.BookingResponse;
+import dev.system.yatch.entity.Booking;
+import dev.system.yatch.entity.Yacht;
+import dev.system.yatch.enums.BookingStatus;
+import dev.system.yatch.enums.EmailKind;
+import dev.system.yatch.service.AvailabilityService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Validation, slot enrichment and mapping shared by the blocking and reactive booking services.
+ * Everything here is in-memory (availability index, compiled slot tables), so it is safe
+ * to call from an event-loop thread once the yacht's slot resolver is cached: a miss in
+ * YachtCatalog.resolverFor reads yacht_date_overrides, which the reactive service does
+ * on bounded-elastic before it gets here. Only a date outside the cached window (in the past,
+ * or further ahead than yatch.overrides.window-days) reads its override here.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingRules {
+
+    // ?fields= / view=summary on the booking list
+    static final FieldSet<Booking> FIELDS = new FieldSet<Booking>(
+            "bookingId", "yachtId", "yachtName", "slotId", "slotLabel", "serviceDate", "customerName", "status")
+            .field("id", Booking::getId)
+            .field("version", Booking::getVersion)
+            .field("bookingId", Booking::getBookingId)
+            .field("yachtId", Booking::getYachtId)
+            .field("yachtName", Booking::getYachtName)
+            .field("slotId", Booking::getSlotId)
+            .field("slotLabel", Booking::getSlotLabel)
+            .field("slotStart", Booking::getSlotStart)
+            .field("slotEnd", Booking::getSlotEnd)
+            .field("serviceDate", Booking::getServiceDate)
+            .field("seriesId", Booking::getSeriesId)
+            .field("customerName", Booking::getCustomerName)
+            .field("phone", Booking::getPhone)
+            .field("email", Booking::getEmail)
+            .field("status", Booking::getStatus)
+            .field("emailSent", Booking::isEmailSent)
+            .field("notes", Booking::getNotes)
+            .field("cancelReason", Booking::getCancelReason)
+            .field("rewardId", Booking::getRewardId)
+            .field("tokenTxTime", Booking::getTokenTxTime)
+            .field("createdAt", Booking::getCreatedAt)
+            .field("updatedAt", Booking::getUpdatedAt);
+
+    private final YachtCatalog yachtCatalog;
+    private final AvailabilityService availabilityService;
+    private final BookingMetrics metrics;
+
+    // ===== VALIDATION =====
+    // Availability index hit, no database query. Only a hint: the index follows this node's writes,
+    // so a booking cancelled or moved on another replica can leave a stale bit. Callers confirm a
+    // hit in storage before rejecting (SlotChecks); the unique slot index decides races.
+    public boolean mayBeOccupied(String yachtId, LocalDate date, String slotId, String excludeBookingId) {
+        return availabilityService.isOccupied(yachtId, date, slotId, excludeBookingId);
+    }
+
+    // True when the request moves the booking to another (yacht, date, slot)
+    public boolean changesSlot(Booking booking, BookingRequest request) {
+        return (request.getYachtId() != null && !request.getYachtId().equals(booking.getYachtId()))
+                || (request.getSlotId() != null && !request.getSlotId().equals(booking.getSlotId()))
+                || (request.getServiceDate() != null && !request.getServiceDate().equals(booking.getServiceDate()));
+    }
+
+    public RuntimeException slotConflict(String yachtId) {
+        metrics.slotConflict(yachtId);
+        return new RuntimeException("Slot is already booked!");
+    }
+
+    // Guarded patch kept missing because the booking kept changing; no slot was taken, so no conflict metric
+    public RuntimeException modifiedConcurrently(String id) {
+        return new RuntimeException("Booking was modified concurrently, retry: " + id);
+    }
+
+    // A HELD row is a slot hold: it becomes a booking through holdId and goes away through /api/holds
+    public RuntimeException holdNotEditable(String id) {
+        return new IllegalArgumentException("Booking " + id + " is a slot hold: book it with holdId or release it");
+    }
+
+    public RuntimeException bookingNotFound(String id) {
+        metrics.notFound("booking", null);
+        return new RuntimeException("Booking not found: " + id);
+    }
+
+    // Archived bookings are read-only; GET still serves them from bookings_archive
+    public RuntimeException bookingArchived(String id) {
+        return new RuntimeException("Booking is archived and read-only: " + id);
+    }
+
+    public RuntimeException yachtNotFound() {
+        metrics.notFound("yacht", null);
+        return new RuntimeException("Yacht not found");
+    }
+
+    // HELD is set by SlotHoldService only
+    public void validateStatus(BookingRequest request) {
+        if (request.getStatus() == BookingStatus.HELD) {
+            throw new IllegalArgumentException("Booking status is invalid: HELD is reserved for slot holds");
+        }
+    }
+
+    // ===== MAPPING =====
+    public Booking buildBooking(BookingRequest request, Yacht yacht, String bookingId) {
+        validateStatus(request);
+        Booking booking = Booking.builder()
+                .bookingId(bookingId)
+                .yachtId(request.getYachtId())
+                .yachtName(yacht.getName()) // Snapshot name
+                .slotId(request.getSlotId())
+                .slotLabel("Unknown") // Will be enriched below
+                .serviceDate(request.getServiceDate())
+                .customerName(request.getCustomerName())
+                .phone(request.getPhone())
+                .email(request.getEmail())
+                .status(request.getStatus() != null ? request.getStatus() : BookingStatus.PENDING)
+                .emailSent(request.getEmailSent() != null ? request.getEmailSent() : false) // FIXED: Include emailSent
+                .notes(request.getNotes())
+                .cancelReason(request.getCancelReason())
+                .rewardId(request.getRewardId())
+                .tokenTxTime(request.getTokenTxTime())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        // Enrich slot details from yacht config
+        enrichSlotDetails(booking, yacht);
+        booking.setSearchKeys(SearchKeys.forBooking(booking));
+        booking.setEmailDispatch(EmailOutbox.onCreate(booking));
+        return booking;
+    }
+
+    // Copies non-null request fields onto the booking; the in-memory twin of patchOf
+    public void applyChanges(Booking booking, BookingRequest request) {
+        if (request.getYachtId() != null)
+            booking.setYachtId(request.getYachtId());
+        if (request.getSlotId() != null)
+            booking.setSlotId(request.getSlotId());
+        if (request.getServiceDate() != null)
+            booking.setServiceDate(request.getServiceDate());
+
+        if (request.getCustomerName() != null)
+            booking.setCustomerName(request.getCustomerName());
+        if (request.getPhone() != null)
+            booking.setPhone(request.getPhone());
+        if (request.getEmail() != null)
+            booking.setEmail(request.getEmail());
+        if (request.getStatus() != null)
+            booking.setStatus(request.getStatus());
+        if (request.getNotes() != null)
+            booking.setNotes(request.getNotes());
+        if (request.getCancelReason() != null)
+            booking.setCancelReason(request.getCancelReason());
+
+        if (request.getRewardId() != null)
+            booking.setRewardId(request.getRewardId());
+        if (request.getTokenTxTime() != null)
+            booking.setTokenTxTime(request.getTokenTxTime());
+        if (request.getEmailSent() != null)
+            booking.setEmailSent(request.getEmailSent());
+
+        booking.setUpdatedAt(LocalDateTime.now());
+    }
+
+    // $set of the non-null request fields (PATCH semantics), written in one findAndModify
+    public Update patchOf(BookingRequest request) {
+        validateStatus(request);
+        Update update = new Update();
+        Patches.setIfPresent(update, "yachtId", request.getYachtId());
+        Patches.setIfPresent(update, "slotId", request.getSlotId());
+        Patches.setIfPresent(update, "serviceDate", request.getServiceDate());
+        Patches.setIfPresent(update, "customerName", request.getCustomerName());
+        Patches.setIfPresent(update, "phone", request.getPhone());
+        Patches.setIfPresent(update, "email", request.getEmail());
+        Patches.setIfPresent(update, "status", request.getStatus());
+        Patches.setIfPresent(update, "notes", request.getNotes());
+        Patches.setIfPresent(update, "cancelReason", request.getCancelReason());
+        Patches.setIfPresent(update, "rewardId", request.getRewardId());
+        Patches.setIfPresent(update, "tokenTxTime", request.getTokenTxTime());
+        Patches.setIfPresent(update, "emailSent", request.getEmailSent());
+        return Patches.bumpVersion(update.set("updatedAt", LocalDateTime.now()));
+    }
+
+    // With an expectedSlot the write only applies while the booking still holds that
+    // (yachtId, serviceDate, slotId), so a move validated against a stale read is not lost.
+    // derivedFrom guards the fields behind the new searchKeys / queued email in the same way.
+    public Criteria patchCriteria(String id, Long expectedVersion, Booking expectedSlot, Booking derivedFrom) {
+        Criteria criteria = Patches.idAndVersion(id, expectedVersion);
+        if (expectedSlot != null) {
+            criteria.and("yachtId").is(expectedSlot.getYachtId())
+                    .and("serviceDate").is(expectedSlot.getServiceDate())
+                    .and("slotId").is(expectedSlot.getSlotId());
+        }
+        if (derivedFrom != null) {
+            criteria.and("customerName").is(derivedFrom.getCustomerName())
+                    .and("phone").is(derivedFrom.getPhone())
+                    .and("email").is(derivedFrom.getEmail())
+                    .and("status").is(derivedFrom.getStatus());
+        } else {
+            // Slot holds are not patched through the booking API (derivedFrom was read and checked)
+            criteria.and("status").ne(BookingStatus.HELD);
+        }
+        return criteria;
+    }
+
+    // A searchable field or a confirmation: searchKeys / the queued email depend on the stored booking
+    public boolean touchesDerived(BookingRequest request) {
+        return request.getCustomerName() != null || request.getPhone() != null || request.getEmail() != null
+                || request.getStatus() == BookingStatus.CONFIRMED;
+    }
+
+    // Adds rebuilt searchKeys and, when the booking becomes CONFIRMED, its confirmation email
+    // to the update; returns the stored fields they were derived from
+    public Booking setDerived(Update update, Booking stored, BookingRequest request) {
+        Booking patched = Booking.builder()
+                .bookingId(stored.getBookingId())
+                .customerName(request.getCustomerName() != null ? request.getCustomerName() : stored.getCustomerName())
+                .phone(request.getPhone() != null ? request.getPhone() : stored.getPhone())
+                .email(request.getEmail() != null ? request.getEmail() : stored.getEmail())
+                .build();
+        if (request.getCustomerName() != null || request.getPhone() != null || request.getEmail() != null) {
+            update.set("searchKeys", SearchKeys.forBooking(patched));
+        }
+        if (request.getStatus() == BookingStatus.CONFIRMED && stored.getStatus() != BookingStatus.CONFIRMED
+                && EmailOutbox.hasAddress(patched.getEmail())) {
+            update.set(EmailOutbox.FIELD, EmailOutbox.entry(EmailKind.CONFIRMATION));
+        }
+        return Booking.builder()
+                .customerName(stored.getCustomerName())
+                .phone(stored.getPhone())
+                .email(stored.getEmail())
+                .status(stored.getStatus())
+                .build();
+    }
+
+    // The request names a slot field; only then is the stored slot read and compared
+    public boolean touchesSlot(BookingRequest request) {
+        return request.getYachtId() != null || request.getSlotId() != null || request.getServiceDate() != null;
+    }
+
+    // Snapshot fields of a moved booking (already applied and enriched in memory)
+    public void setSlotDetails(Update update, Booking moved) {
+        update.set("yachtName", moved.getYachtName())
+                .set("slotLabel", moved.getSlotLabel())
+                .set("slotStart", moved.getSlotStart())
+                .set("slotEnd", moved.getSlotEnd());
+    }
+
+    // O(1) lookups in the yacht's compiled slot tables; rejects slots the yacht does not offer
+    public void enrichSlotDetails(Booking booking, Yacht yacht) {
+        if (yacht == null || booking == null || booking.getSlotId() == null) {
+            return;
+        }
+
+        SlotResolver resolver = yachtCatalog.resolverFor(yacht);
+        if (!resolver.covers(booking.getServiceDate())) {
+            resolver = yachtCatalog.resolverFor(yacht, booking.getServiceDate(), booking.getServiceDate());
+        }
+        TimeSlotDTO slot = resolver.resolve(booking.getServiceDate(), booking.getSlotId());
+        if (slot == null) {
+            metrics.validationFailed(yacht.getId());
+            throw new IllegalArgumentException("Slot " + booking.getSlotId() + " is invalid for yacht " + yacht.getName());
+        }
+
+        booking.setSlotLabel(slot.getLabel());
+        booking.setSlotStart(slot.getStart());
+        booking.setSlotEnd(slot.getEnd());
+    }
+
+    public BookingResponse mapToResponse(Booking b) {
+        return BookingResponse.builder()
+                .id(b.getId())
+                .version(b.getVersion())
+                .bookingId(b.getBookingId())
+                .yachtId(b.getYachtId())
+                .yachtName(b.getYachtName())
+                .slotId(b.getSlotId())
+                .slotLabel(b.getSlotLabel())
+                .slotStart(b.getSlotStart())
+                .slotEnd(b.getSlotEnd())
+                .serviceDate(b.getServiceDate())
+                .seriesId(b.getSeriesId())
+                .customerName(b.getCustomerName())
+                .phone(b.getPhone())
+                .email(b.getEmail())
+                .status(b.getStatus())
+                .emailSent(b.isEmailSent())
+                .notes(b.getNotes())
+                .cancelReason(b.getCancelReason())
+                .rewardId(b.getRewardId())
+                .tokenTxTime(b.getTokenTxTime())
+                .createdAt(b.getCreatedAt())
+                .updatedAt(b.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,250 @@
+package dev.system.yatch.service.impl;
+
+import dev.system.yatch.dto.request.BookingRequest;
+import dev.system.yatch.dto.request.BookingSeriesRequest;
+import dev.system.yatch.dto.request.BookingSeriesUpdate;
+import dev.system.yatch.dto.response.BookingResponse;
+import dev.system.yatch.dto.response.BookingSeriesResponse;
+import dev.system.yatch.dto.response.ChangeEvent;
+import dev.system.yatch.entity.Booking;
+import dev.system.yatch.entity.EmailDispatch;
+import dev.system.yatch.entity.Yacht;
+import dev.system.yatch.enums.BookingStatus;
+import dev.system.yatch.repository.BookingRepository;
+import dev.system.yatch.repository.BookingRepositoryCustom.RowUpdate;
+import dev.system.yatch.service.AvailabilityService;
+import dev.system.yatch.service.BookingSeriesService;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Booking series: the same (yacht, slot) on every date of a recurrence, typically a
+ * fractional owner's season. Each date is an ordinary booking tagged with seriesId, so
+ * availability, search and the unique slot index treat it like any other booking.
+ * Conflicts are found with one $in query, the series is inserted with one bulk write,
+ * and series-wide edits and cancellations are single updateMany calls.
+ */
+@Service
+@RequiredArgsConstructor
+public class BookingSeriesServiceImpl implements BookingSeriesService {
+
+    static final int MAX_SERIES_SIZE = 200;
+    private static final List<BookingStatus> CANCELLABLE =
+            List.of(BookingStatus.PENDING, BookingStatus.PROCESSING, BookingStatus.CONFIRMED);
+
+    private final BookingRepository bookingRepository;
+    private final YachtCatalog yachtCatalog;
+    private final AvailabilityService availabilityService;
+    private final BookingRules rules;
+    private final BookingIds bookingIds;
+    private final BookingMetrics metrics;
+    private final ChangeEventPublisher changeEvents;
+
+    @Override
+    public BookingSeriesResponse create(BookingSeriesRequest request) {
+        if (request == null || request.getYachtId() == null || request.getSlotId() == null) {
+            throw new IllegalArgumentException("yachtId and slotId are required");
+        }
+        BookingStatus status = request.getStatus() != null ? request.getStatus() : BookingStatus.PENDING;
+        if (status != BookingStatus.PENDING && status != BookingStatus.CONFIRMED) {
+            throw new IllegalArgumentException("Series status is invalid: PENDING or CONFIRMED");
+        }
+        NavigableSet<LocalDate> dates = Recurrences.expand(request, MAX_SERIES_SIZE);
+        Yacht yacht = yachtCatalog.findById(request.getYachtId());
+        if (yacht == null) {
+            throw rules.yachtNotFound();
+        }
+
+        // 1. Every date at once: booked or held (HELD rows) in storage, one $in query
+        NavigableSet<LocalDate> taken = new TreeSet<>(
+                bookingRepository.findTakenDates(request.getYachtId(), request.getSlotId(), dates));
+        if (!taken.isEmpty() && !request.isSkipConflicts()) {
+            throw conflict(request.getYachtId(), taken);
+        }
+        dates.removeAll(taken);
+        if (dates.isEmpty()) {
+            // skipConflicts, but every date is taken
+            throw conflict(request.getYachtId(), taken);
+        }
+
+        // 2. Build & enrich; rejects dates on which the yacht does not offer the slot
+        String seriesId = new ObjectId().toHexString();
+        List<Booking> bookings = new ArrayList<>(dates.size());
+        for (LocalDate date : dates) {
+            Booking booking = rules.buildBooking(itemOf(request, status, date), yacht, bookingIds.next());
+            booking.setId(new ObjectId().toHexString());
+            booking.setSeriesId(seriesId);
+            if (!bookings.isEmpty()) {
+                // One customer email per series, queued with its first booking
+                booking.setEmailDispatch(null);
+            }
+            bookings.add(booking);
+        }
+
+        // 3. Single unordered bulk insert; the unique slot index still catches races
+        Map<Integer, String> errors = bookingRepository.insertUnordered(bookings);
+        if (!errors.isEmpty()) {
+            List<Booking> raced = new ArrayList<>();
+            boolean failed = false;
+            for (Map.Entry<Integer, String> error : errors.entrySet()) {
+                raced.add(bookings.get(error.getKey()));
+                failed |= !error.getValue().contains(Booking.ACTIVE_SLOT_INDEX);
+            }
+            raced.forEach(b -> taken.add(b.getServiceDate()));
+            if (failed || !request.isSkipConflicts()) {
+                // All or nothing: remove what did get in
+                bookingRepository.deleteAllById(bookings.stream().map(Booking::getId).toList());
+                if (failed) {
+                    throw new RuntimeException("Booking series could not be saved: " + errors.values().iterator().next());
+                }
+                throw conflict(request.getYachtId(), taken);
+            }
+            EmailDispatch dispatch = bookings.get(0).getEmailDispatch();
+            bookings.removeAll(raced);
+            if (bookings.isEmpty()) {
+                throw conflict(request.getYachtId(), taken);
+            }
+            // The series email was queued with a booking that lost its race; move it to the first one saved
+            Booking first = bookings.get(0);
+            if (dispatch != null && first.getEmailDispatch() == null) {
+                first.setEmailDispatch(dispatch);
+                bookingRepository.updateAll(Criteria.where("id").is(first.getId()),
+                        new Update().set(EmailOutbox.FIELD, dispatch));
+            }
+        }
+
+        List<BookingResponse> responses = new ArrayList<>(bookings.size());
+        for (Booking saved : bookings) {
+            availabilityService.track(saved);
+            BookingResponse response = rules.mapToResponse(saved);
+            changeEvents.created(ChangeEvent.BOOKING, saved.getId(), response);
+            responses.add(response);
+        }
+        return BookingSeriesResponse.builder()
+                .seriesId(seriesId)
+                .affected(responses.size())
+                .bookings(responses)
+                .conflicts(new ArrayList<>(taken))
+                .build();
+    }
+
+    @Override
+    public BookingSeriesResponse get(String seriesId) {
+        List<Booking> series = findSeries(seriesId);
+        return response(seriesId, 0, series);
+    }
+
+    @Override
+    public BookingSeriesResponse update(String seriesId, BookingSeriesUpdate request) {
+        Update update = new Update();
+        Patches.setIfPresent(update, "customerName", request.getCustomerName());
+        Patches.setIfPresent(update, "phone", request.getPhone());
+        Patches.setIfPresent(update, "email", request.getEmail());
+        Patches.setIfPresent(update, "notes", request.getNotes());
+        Patches.setIfPresent(update, "rewardId", request.getRewardId());
+        if (update.getUpdateObject().isEmpty()) {
+            throw new IllegalArgumentException("At least one field is required");
+        }
+        Patches.bumpVersion(update.set("updatedAt", LocalDateTime.now()));
+
+        long modified = bookingRepository.updateAll(Criteria.where("seriesId").is(seriesId), update);
+        List<Booking> series = findSeries(seriesId);
+
+        // searchKeys also cover each bookingId, so they are rebuilt per booking in one bulk write,
+        // guarded on the fields they are built from (a later edit rebuilds its own)
+        if (request.getCustomerName() != null || request.getPhone() != null || request.getEmail() != null) {
+            List<RowUpdate> keys = new ArrayList<>(series.size());
+            for (Booking booking : series) {
+                booking.setSearchKeys(SearchKeys.forBooking(booking));
+                keys.add(new RowUpdate(Criteria.where("id").is(booking.getId())
+                        .and("customerName").is(booking.getCustomerName())
+                        .and("phone").is(booking.getPhone())
+                        .and("email").is(booking.getEmail()),
+                        new Update().set("searchKeys", booking.getSearchKeys())));
+            }
+            bookingRepository.updateEach(keys);
+        }
+
+        series.forEach(b -> changeEvents.patched(ChangeEvent.BOOKING, b.getId(), rules.mapToResponse(b), update));
+        return response(seriesId, (int) modified, series);
+    }
+
+    @Override
+    public BookingSeriesResponse cancel(String seriesId, String reason, LocalDate from) {
+        LocalDate since = from != null ? from : LocalDate.now();
+        // The bookings this call cancels, read first; the update re-checks status and date on each
+        Set<String> ids = new HashSet<>();
+        for (Booking booking : findSeries(seriesId)) {
+            if (!booking.getServiceDate().isBefore(since) && CANCELLABLE.contains(booking.getStatus())) {
+                ids.add(booking.getId());
+            }
+        }
+        Update update = new Update().set("status", BookingStatus.CANCELLED).set("updatedAt", LocalDateTime.now());
+        Patches.setIfPresent(update, "cancelReason", reason);
+        Patches.bumpVersion(update);
+
+        long modified = ids.isEmpty() ? 0 : bookingRepository.updateAll(Criteria.where("id").in(ids)
+                .and("serviceDate").gte(since)
+                .and("status").in(CANCELLABLE), update);
+        List<Booking> series = findSeries(seriesId);
+
+        for (Booking booking : series) {
+            if (ids.contains(booking.getId()) && booking.getStatus() == BookingStatus.CANCELLED) {
+                availabilityService.track(booking); // Releases the slot
+                changeEvents.patched(ChangeEvent.BOOKING, booking.getId(), rules.mapToResponse(booking), update);
+            }
+        }
+        return response(seriesId, (int) modified, series);
+    }
+
+    // ===== HELPER =====
+    private List<Booking> findSeries(String seriesId) {
+        List<Booking> series = bookingRepository.findBySeriesIdOrderByServiceDateAsc(seriesId);
+        if (series.isEmpty()) {
+            metrics.notFound("bookingSeries", null);
+            throw new RuntimeException("Booking series not found: " + seriesId);
+        }
+        return series;
+    }
+
+    private BookingSeriesResponse response(String seriesId, int affected, List<Booking> series) {
+        return BookingSeriesResponse.builder()
+                .seriesId(seriesId)
+                .affected(affected)
+                .bookings(series.stream().map(rules::mapToResponse).toList())
+                .conflicts(List.of())
+                .build();
+    }
+
+    private RuntimeException conflict(String yachtId, NavigableSet<LocalDate> taken) {
+        metrics.slotConflict(yachtId);
+        return new RuntimeException("Slot is already booked on " + taken);
+    }
+
+    private static BookingRequest itemOf(BookingSeriesRequest request, BookingStatus status, LocalDate date) {
+        return BookingRequest.builder()
+                .yachtId(request.getYachtId())
+                .slotId(request.getSlotId())
+                .serviceDate(date)
+                .status(status)
+                .customerName(request.getCustomerName())
+                .phone(request.getPhone())
+                .email(request.getEmail())
+                .notes(request.getNotes())
+                .rewardId(request.getRewardId())
+                .build();
+    }
+}
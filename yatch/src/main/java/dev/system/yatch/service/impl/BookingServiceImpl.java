@@ -1,247 +1,596 @@
 package dev.system.yatch.service.impl;
 
-import dev.system.yatch.dto.common.TimeSlotDTO;
+import dev.system.yatch.dto.request.BatchBookingRequest;
+import dev.system.yatch.dto.request.BookingFilter;
 import dev.system.yatch.dto.request.BookingRequest;
+import dev.system.yatch.dto.response.BatchBookingResponse;
+import dev.system.yatch.dto.response.BookingPageResponse;
 import dev.system.yatch.dto.response.BookingResponse;
+import dev.system.yatch.dto.response.CalendarMonthResponse;
+import dev.system.yatch.dto.response.ChangeEvent;
+import dev.system.yatch.dto.response.SparsePageResponse;
 import dev.system.yatch.entity.Booking;
 import dev.system.yatch.entity.Yacht;
+import dev.system.yatch.enums.BatchItemStatus;
 import dev.system.yatch.enums.BookingStatus;
+import dev.system.yatch.enums.ExportFormat;
 import dev.system.yatch.repository.BookingRepository;
-import dev.system.yatch.repository.YachtRepository;
+import dev.system.yatch.repository.BookingRepositoryCustom.DayCount;
+import dev.system.yatch.service.AvailabilityService;
+import dev.system.yatch.service.BookingArchiveService;
 import dev.system.yatch.service.BookingService;
+import dev.system.yatch.service.SlotHoldService;
 import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
-
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class BookingServiceImpl implements BookingService {
 
     private final BookingRepository bookingRepository;
-    private final YachtRepository yachtRepository;
+    private final YachtCatalog yachtCatalog;
+    private final AvailabilityService availabilityService;
+    private final BookingRules rules;
+    private final ObjectMapper objectMapper;
+    private final ChangeEventPublisher changeEvents;
+    private final BookingIds bookingIds;
+    private final BookingMetrics metrics;
+    private final BookingArchiveService archive;
+    private final SlotHoldService slotHolds;
+    private final SlotChecks slotChecks;
+
+    static final int MAX_BATCH_SIZE = 200;
+    static final int MAX_ID_ATTEMPTS = 3;
+    static final int MAX_PATCH_ATTEMPTS = 3;
+    static final int DEFAULT_PAGE_SIZE = 100;
+    static final int MAX_PAGE_SIZE = 500;
 
     @Override
-    public List<BookingResponse> getAllBookings() {
-        return bookingRepository.findAll().stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    public BookingPageResponse getBookings(BookingFilter filter, String cursor, int limit) {
+        Page page = findPage(filter, cursor, limit, null);
+        return BookingPageResponse.builder()
+                .items(page.rows().stream().map(rules::mapToResponse).collect(Collectors.toList()))
+                .nextCursor(page.nextCursor())
+                .build();
+    }
+
+    @Override
+    public SparsePageResponse getBookingFields(BookingFilter filter, String cursor, int limit, String fields,
+            String view) {
+        Set<String> selected = BookingRules.FIELDS.select(fields, view);
+        Page page = findPage(filter, cursor, limit, selected);
+        return SparsePageResponse.builder()
+                .items(page.rows().stream()
+                        .map(b -> BookingRules.FIELDS.render(b, selected))
+                        .collect(Collectors.toList()))
+                .nextCursor(page.nextCursor())
+                .build();
     }
 
     @Override
     public BookingResponse getBookingById(String id) {
         Booking booking = bookingRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Booking not found: " + id));
-        return mapToResponse(booking);
+                .or(() -> bookingRepository.findArchivedById(id))
+                .orElseThrow(() -> rules.bookingNotFound(id));
+        return rules.mapToResponse(booking);
+    }
+
+    @Override
+    public CalendarMonthResponse getMonthCalendar(int year, int month, String yachtId) {
+        YearMonth yearMonth;
+        try {
+            yearMonth = YearMonth.of(year, month);
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Month is invalid: " + year + "-" + month);
+        }
+        LocalDate first = yearMonth.atDay(1);
+        LocalDate last = yearMonth.atEndOfMonth();
+
+        // date -> yachtId -> live bookings, date -> status -> count
+        Map<LocalDate, Map<String, Integer>> bookedByDay = new HashMap<>();
+        Map<LocalDate, Map<BookingStatus, Integer>> statusByDay = new HashMap<>();
+        Set<String> yachtsWithBookings = new HashSet<>();
+        List<DayCount> counts = new ArrayList<>(bookingRepository.countByDay(first, last, yachtId));
+        if (archive.reaches(first)) {
+            counts.addAll(bookingRepository.countArchivedByDay(first, last, yachtId));
+        }
+        for (DayCount row : counts) {
+            statusByDay.computeIfAbsent(row.serviceDate(), d -> new EnumMap<>(BookingStatus.class))
+                    .merge(row.status() != null ? row.status() : BookingStatus.PENDING, row.count(), Integer::sum);
+            if (row.status() != BookingStatus.CANCELLED) {
+                bookedByDay.computeIfAbsent(row.serviceDate(), d -> new HashMap<>())
+                        .merge(row.yachtId(), row.count(), Integer::sum);
+            }
+            yachtsWithBookings.add(row.yachtId());
+        }
+
+        // Yachts in scope: the requested one, or every active yacht plus any with bookings this month
+        List<Yacht> yachts = yachtCatalog.findAll().stream()
+                .filter(y -> yachtId != null ? y.getId().equals(yachtId)
+                        : y.isActive() || yachtsWithBookings.contains(y.getId()))
+                .toList();
+
+        // Cached slot tables, or this month's overrides when the month is outside their window
+        Map<String, SlotResolver> resolvers = new HashMap<>();
+        for (Yacht yacht : yachts) {
+            SlotResolver resolver = yachtCatalog.resolverFor(yacht);
+            resolvers.put(yacht.getId(), resolver.covers(first) && resolver.covers(last)
+                    ? resolver
+                    : yachtCatalog.resolverFor(yacht, first, last));
+        }
+
+        List<CalendarMonthResponse.Day> days = new ArrayList<>(yearMonth.lengthOfMonth());
+        for (LocalDate date = first; !date.isAfter(last); date = date.plusDays(1)) {
+            Map<String, Integer> booked = bookedByDay.getOrDefault(date, Map.of());
+            Map<BookingStatus, Integer> byStatus = statusByDay.getOrDefault(date, Map.of());
+
+            List<CalendarMonthResponse.YachtDay> yachtDays = new ArrayList<>(yachts.size());
+            int daySlots = 0;
+            int dayBooked = 0;
+            for (Yacht yacht : yachts) {
+                int slots = resolvers.get(yacht.getId()).slotsOn(date).size();
+                int count = booked.getOrDefault(yacht.getId(), 0);
+                daySlots += slots;
+                dayBooked += count;
+                yachtDays.add(CalendarMonthResponse.YachtDay.builder()
+                        .yachtId(yacht.getId())
+                        .booked(count)
+                        .slots(slots)
+                        .occupancy(ratio(count, slots))
+                        .build());
+            }
+
+            days.add(CalendarMonthResponse.Day.builder()
+                    .date(date)
+                    .total(byStatus.values().stream().mapToInt(Integer::intValue).sum())
+                    .booked(dayBooked)
+                    .slots(daySlots)
+                    .occupancy(ratio(dayBooked, daySlots))
+                    .byStatus(byStatus)
+                    .yachts(yachtDays)
+                    .build());
+        }
+
+        return CalendarMonthResponse.builder()
+                .year(year)
+                .month(month)
+                .days(days)
+                .build();
     }
 
     @Override
     public BookingResponse createBooking(BookingRequest request) {
+        // 0. A held slot: the caller's own hold does not block it (and may supply the slot fields)
+        Booking hold = request.getHoldId() != null ? slotHolds.claim(request) : null;
+
         // 1. Validate Yacht
-        Yacht yacht = yachtRepository.findById(request.getYachtId())
-                .orElseThrow(() -> new RuntimeException("Yacht not found"));
-
-        // 2. Validate Slot Availability (Double Booking Check)
-        validateSlotAvailability(request.getYachtId(), request.getServiceDate(), request.getSlotId(), null);
-
-        // 3. Generate ID (Simple simulation, normally UUID or Seq)
-        String bookingId = "YB-" + LocalDate.now().getYear() + "-" + System.currentTimeMillis();
-
-        // 4. Map & Save (including all fields from request to prevent data loss)
-        Booking booking = Booking.builder()
-                .bookingId(bookingId)
-                .yachtId(request.getYachtId())
-                .yachtName(yacht.getName()) // Snapshot name
-                .slotId(request.getSlotId())
-                .slotLabel("Unknown") // Will be enriched below
-                .serviceDate(request.getServiceDate())
-                .customerName(request.getCustomerName())
-                .phone(request.getPhone())
-                .email(request.getEmail())
-                .status(request.getStatus() != null ? request.getStatus() : BookingStatus.PENDING)
-                .emailSent(request.getEmailSent() != null ? request.getEmailSent() : false) // FIXED: Include emailSent
-                .notes(request.getNotes())
-                .cancelReason(request.getCancelReason())
-                .rewardId(request.getRewardId())
-                .tokenTxTime(request.getTokenTxTime())
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
-                .build();
+        Yacht yacht = findYacht(request.getYachtId());
+
+        // 2. Pre-check, in memory unless the index reports the slot taken (the unique slot index still decides on insert)
+        slotChecks.validate(request.getYachtId(), request.getServiceDate(), request.getSlotId(),
+                hold != null ? hold.getId() : null);
+
+        // 3. Map (including all fields from request to prevent data loss) & enrich slot details
+        Booking booking = rules.buildBooking(request, yacht, bookingIds.next());
+
+        // 4. Save - double booking is rejected atomically by the unique slot index on insert;
+        //    a hold is replaced in place by the booking
+        Booking saved = saveClaimingSlot(booking, hold);
+        availabilityService.track(saved);
+        BookingResponse response = rules.mapToResponse(saved);
+        changeEvents.created(ChangeEvent.BOOKING, saved.getId(), response);
+        return response;
+    }
 
-        // Enrich slot details from yacht config
-        enrichSlotDetails(booking, yacht);
+    @Override
+    public BookingResponse updateBooking(String id, BookingRequest request, Long expectedVersion) {
+        for (int attempt = 1;; attempt++) {
+            // Only the requested fields are written ($set), in a single findAndModify
+            Update update = rules.patchOf(request);
+
+            // Slot moves, searchKeys and the confirmation email derive from the stored booking;
+            // the write is guarded on the fields they came from
+            Booking expectedSlot = null;
+            Booking derivedFrom = null;
+            if (rules.touchesSlot(request) || rules.touchesDerived(request)) {
+                Booking booking = bookingRepository.findById(id)
+                        .orElseThrow(() -> missing(id));
+                if (booking.getStatus() == BookingStatus.HELD) {
+                    throw rules.holdNotEditable(id);
+                }
+                if (rules.touchesDerived(request)) {
+                    derivedFrom = rules.setDerived(update, booking, request);
+                }
+                if (rules.touchesSlot(request) && rules.changesSlot(booking, request)) {
+                    expectedSlot = Booking.builder()
+                            .yachtId(booking.getYachtId())
+                            .serviceDate(booking.getServiceDate())
+                            .slotId(booking.getSlotId())
+                            .build();
+                    rules.applyChanges(booking, request);
+                    slotChecks.validate(booking.getYachtId(), booking.getServiceDate(),
+                            booking.getSlotId(), id);
+
+                    Yacht yacht = findYacht(booking.getYachtId());
+                    if (!expectedSlot.getYachtId().equals(booking.getYachtId())) {
+                        booking.setYachtName(yacht.getName());
+                    }
+                    rules.enrichSlotDetails(booking, yacht);
+                    rules.setSlotDetails(update, booking);
+                }
+            }
+
+            Criteria criteria = rules.patchCriteria(id, expectedVersion, expectedSlot, derivedFrom);
+            Booking saved = patchClaimingSlot(criteria, update, expectedSlot);
+            if (saved != null) {
+                availabilityService.track(saved);
+                BookingResponse response = rules.mapToResponse(saved);
+                changeEvents.patched(ChangeEvent.BOOKING, id, response, update);
+                return response;
+            }
 
-        return mapToResponse(bookingRepository.save(booking));
+            // Nothing matched: deleted, edited since If-Match, or the slot or derived-from fields changed underneath us
+            Booking current = bookingRepository.findById(id)
+                    .orElseThrow(() -> missing(id));
+            if (current.getStatus() == BookingStatus.HELD) {
+                throw rules.holdNotEditable(id);
+            }
+            if (!Patches.matches(expectedVersion, current.getVersion())) {
+                throw Patches.versionMismatch("Booking", id);
+            }
+            if (attempt >= MAX_PATCH_ATTEMPTS) {
+                throw rules.modifiedConcurrently(id);
+            }
+        }
     }
 
     @Override
-    public BookingResponse updateBooking(String id, BookingRequest request) {
-        Booking booking = bookingRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Booking not found: " + id));
-
-        // Validation for Slot Change (Only if slot-related fields are provided and
-        // different)
-        boolean newYachtIdProvided = request.getYachtId() != null;
-        boolean newSlotIdProvided = request.getSlotId() != null;
-        boolean newDateProvided = request.getServiceDate() != null;
-
-        String targetYachtId = newYachtIdProvided ? request.getYachtId() : booking.getYachtId();
-        String targetSlotId = newSlotIdProvided ? request.getSlotId() : booking.getSlotId();
-        LocalDate targetDate = newDateProvided ? request.getServiceDate() : booking.getServiceDate();
-
-        boolean isSlotChanged = !booking.getYachtId().equals(targetYachtId) ||
-                !booking.getSlotId().equals(targetSlotId) ||
-                !booking.getServiceDate().equals(targetDate);
-
-        if (isSlotChanged) {
-            validateSlotAvailability(targetYachtId, targetDate, targetSlotId, id);
-
-            // Update yacht snapshot info if yacht changed
-            if (!booking.getYachtId().equals(targetYachtId)) {
-                Yacht yacht = yachtRepository.findById(targetYachtId)
-                        .orElseThrow(() -> new RuntimeException("Yacht not found"));
-                booking.setYachtName(yacht.getName());
-                // We'll enrich below with the new yacht
-            }
-        }
-
-        // Update fields (Only if non-null in request)
-        if (newYachtIdProvided)
-            booking.setYachtId(request.getYachtId());
-        if (newSlotIdProvided)
-            booking.setSlotId(request.getSlotId());
-        if (newDateProvided)
-            booking.setServiceDate(request.getServiceDate());
-
-        if (request.getCustomerName() != null)
-            booking.setCustomerName(request.getCustomerName());
-        if (request.getPhone() != null)
-            booking.setPhone(request.getPhone());
-        if (request.getEmail() != null)
-            booking.setEmail(request.getEmail());
-        if (request.getStatus() != null)
-            booking.setStatus(request.getStatus());
-        if (request.getNotes() != null)
-            booking.setNotes(request.getNotes());
-        if (request.getCancelReason() != null)
-            booking.setCancelReason(request.getCancelReason());
-
-        if (request.getRewardId() != null)
-            booking.setRewardId(request.getRewardId());
-        if (request.getTokenTxTime() != null)
-            booking.setTokenTxTime(request.getTokenTxTime());
-        if (request.getEmailSent() != null)
-            booking.setEmailSent(request.getEmailSent());
-
-        booking.setUpdatedAt(LocalDateTime.now());
-
-        // Refresh slot labels if needed (using up-to-date values)
-        if (isSlotChanged) {
-            Yacht yacht = yachtRepository.findById(booking.getYachtId())
-                    .orElseThrow(() -> new RuntimeException("Yacht not found"));
-            enrichSlotDetails(booking, yacht);
-        }
-
-        return mapToResponse(bookingRepository.save(booking));
+    public BatchBookingResponse createBookings(BatchBookingRequest request) {
+        List<BookingRequest> items = request != null && request.getItems() != null ? request.getItems() : List.of();
+        if (items.isEmpty() || items.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch must contain 1 to " + MAX_BATCH_SIZE + " items");
+        }
+
+        BatchBookingResponse.ItemResult[] results = new BatchBookingResponse.ItemResult[items.size()];
+
+        // 1. Build & enrich every item; group the valid ones by (yacht, date)
+        Booking[] candidates = new Booking[items.size()];
+        Map<SlotDay, List<Integer>> groups = new HashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            BookingRequest item = items.get(i);
+            try {
+                if (item == null || item.getServiceDate() == null || item.getSlotId() == null) {
+                    throw new IllegalArgumentException("yachtId, slotId and serviceDate are required");
+                }
+                Booking booking = rules.buildBooking(item, findYacht(item.getYachtId()), bookingIds.next());
+                booking.setId(new ObjectId().toHexString());
+                candidates[i] = booking;
+                groups.computeIfAbsent(new SlotDay(booking.getYachtId(), booking.getServiceDate()), k -> new ArrayList<>())
+                        .add(i);
+            } catch (RuntimeException e) {
+                results[i] = itemResult(i, BatchItemStatus.INVALID, null, e.getMessage());
+            }
+        }
+
+        // 2. One query per (yacht, date) group (slot holds are HELD bookings), plus conflicts inside the batch itself
+        List<Booking> toInsert = new ArrayList<>();
+        List<Integer> insertIndexes = new ArrayList<>();
+        groups.forEach((day, indexes) -> {
+            Set<String> taken = new HashSet<>();
+            bookingRepository.findByYachtIdAndServiceDateAndStatusNot(day.yachtId(), day.date(), BookingStatus.CANCELLED)
+                    .forEach(b -> taken.add(b.getSlotId()));
+
+            for (int i : indexes) {
+                Booking booking = candidates[i];
+                boolean live = booking.getStatus() != BookingStatus.CANCELLED;
+                if (live && !taken.add(booking.getSlotId())) {
+                    metrics.slotConflict(booking.getYachtId());
+                    results[i] = itemResult(i, BatchItemStatus.CONFLICT, null, "Slot is already booked!");
+                    continue;
+                }
+                toInsert.add(booking);
+                insertIndexes.add(i);
+            }
+        });
+
+        // 3. Single unordered bulk insert; the unique slot index still catches races
+        Map<Integer, String> errors = bookingRepository.insertUnordered(toInsert);
+        for (int k = 0; k < toInsert.size(); k++) {
+            int i = insertIndexes.get(k);
+            String error = errors.get(k);
+            if (error == null) {
+                availabilityService.track(toInsert.get(k));
+                BookingResponse response = rules.mapToResponse(toInsert.get(k));
+                changeEvents.created(ChangeEvent.BOOKING, response.getId(), response);
+                results[i] = itemResult(i, BatchItemStatus.CREATED, response, null);
+            } else if (error.contains(Booking.ACTIVE_SLOT_INDEX)) {
+                metrics.slotConflict(toInsert.get(k).getYachtId());
+                results[i] = itemResult(i, BatchItemStatus.CONFLICT, null, "Slot is already booked!");
+            } else {
+                results[i] = itemResult(i, BatchItemStatus.FAILED, null, error);
+            }
+        }
+
+        List<BatchBookingResponse.ItemResult> ordered = List.of(results);
+        int created = (int) ordered.stream().filter(r -> r.getStatus() == BatchItemStatus.CREATED).count();
+        return BatchBookingResponse.builder()
+                .created(created)
+                .rejected(ordered.size() - created)
+                .results(ordered)
+                .build();
     }
 
     @Override
-    public void deleteBooking(String id) {
-        bookingRepository.deleteById(id);
+    public void deleteBooking(String id, Long expectedVersion) {
+        if (!bookingRepository.deleteMatching(Patches.idAndVersion(id, expectedVersion))) {
+            if (expectedVersion != null && bookingRepository.existsById(id)) {
+                throw Patches.versionMismatch("Booking", id);
+            }
+            if (bookingRepository.existsArchivedById(id)) {
+                throw rules.bookingArchived(id);
+            }
+        }
+        availabilityService.untrack(id);
+        changeEvents.deleted(ChangeEvent.BOOKING, id);
     }
 
-    // ===== VALIDATION =====
-    private void validateSlotAvailability(String yachtId, LocalDate date, String slotId, String excludeBookingId) {
-        List<Booking> existingBookings = bookingRepository.findByServiceDate(date);
+    @Override
+    public void exportBookings(BookingFilter filter, ExportFormat format, OutputStream out) throws IOException {
+        OutputStream buffered = new BufferedOutputStream(out, EXPORT_BUFFER_SIZE);
+        ObjectWriter writer = objectMapper.writerFor(BookingResponse.class);
 
-        boolean isBooked = existingBookings.stream().anyMatch(b -> !b.getId().equals(excludeBookingId) && // Don't block
-                                                                                                          // self update
-                b.getYachtId().equals(yachtId) &&
-                b.getSlotId().equals(slotId) &&
-                b.getStatus() != BookingStatus.CANCELLED);
+        if (format == ExportFormat.CSV) {
+            buffered.write(CSV_HEADER.getBytes(StandardCharsets.UTF_8));
+        }
 
-        if (isBooked) {
-            throw new RuntimeException("Slot is already booked!");
+        // Rows are pulled from the Mongo cursor(s) and written one at a time
+        try (Stream<Booking> hot = bookingRepository.streamByFilter(filter);
+                Stream<Booking> cold = archive.reaches(filter) ? bookingRepository.streamArchivedByFilter(filter)
+                        : Stream.empty()) {
+            Iterator<Booking> it = merged(hot.iterator(), cold.iterator());
+            while (it.hasNext()) {
+                BookingResponse row = rules.mapToResponse(it.next());
+                if (format == ExportFormat.CSV) {
+                    buffered.write(toCsvLine(row).getBytes(StandardCharsets.UTF_8));
+                } else {
+                    buffered.write(writer.writeValueAsBytes(row));
+                    buffered.write('\n');
+                }
+            }
         }
+        buffered.flush();
     }
 
-    // ===== HELPER =====
-    private void enrichSlotDetails(Booking booking, Yacht yacht) {
-        if (yacht == null || booking == null || booking.getSlotId() == null) {
-            return;
-        }
-
-        // First, try date-specific override slots (if service date is available)
-        if (booking.getServiceDate() != null && yacht.getDateOverrides() != null) {
-            String dateKey = booking.getServiceDate().toString(); // YYYY-MM-DD format
-            List<TimeSlotDTO> overrideSlots = yacht.getDateOverrides().get(dateKey);
-            if (overrideSlots != null) {
-                overrideSlots.stream()
-                        .filter(s -> s.getId().equals(booking.getSlotId()))
-                        .findFirst()
-                        .ifPresent(slot -> {
-                            booking.setSlotLabel(slot.getLabel());
-                            booking.setSlotStart(slot.getStart());
-                            booking.setSlotEnd(slot.getEnd());
-                        });
-                // If found in overrides, return early
-                if (booking.getSlotStart() != null) {
-                    return;
+    // ===== VALIDATION =====
+    // Storage enforces slot ownership; translate the index violation into the 409 path, unless a
+    // lapsed hold not reclaimed yet is what holds the slot. A bookingId clash (legacy data ahead of
+    // the sequence) just retries with a fresh id.
+    private Booking saveClaimingSlot(Booking booking, Booking hold) {
+        boolean lapsedHoldReleased = false;
+        for (int attempt = 1;; attempt++) {
+            try {
+                return hold != null ? slotHolds.convert(hold, booking) : bookingRepository.save(booking);
+            } catch (DuplicateKeyException e) {
+                String message = e.getMessage() != null ? e.getMessage() : "";
+                if (message.contains(Booking.ACTIVE_SLOT_INDEX)) {
+                    if (lapsedHoldReleased || !slotHolds.releaseExpired(booking.getYachtId(),
+                            booking.getServiceDate(), booking.getSlotId())) {
+                        throw rules.slotConflict(booking.getYachtId());
+                    }
+                    lapsedHoldReleased = true;
+                    booking.setVersion(null);
+                    continue;
                 }
+                if (message.contains(Booking.BOOKING_ID_INDEX) && (hold != null || booking.getId() == null)
+                        && attempt < MAX_ID_ATTEMPTS) {
+                    booking.setBookingId(bookingIds.next());
+                    booking.setSearchKeys(SearchKeys.forBooking(booking));
+                    booking.setVersion(null); // the failed insert already initialised it
+                    continue;
+                }
+                throw e;
+            }
+        }
+    }
+
+    // Slot conflicts on PATCH (moved slot or re-activated booking) surface from the unique index
+    private Booking patchClaimingSlot(Criteria criteria, Update update, Booking expectedSlot) {
+        try {
+            return bookingRepository.patch(criteria, update);
+        } catch (DuplicateKeyException e) {
+            if (e.getMessage() != null && e.getMessage().contains(Booking.ACTIVE_SLOT_INDEX)) {
+                throw rules.slotConflict(expectedSlot != null ? expectedSlot.getYachtId() : null);
             }
+            throw e;
         }
+    }
+
+    // ===== CALENDAR =====
+    private double ratio(int booked, int slots) {
+        return slots > 0 ? Math.round(booked * 1000.0 / slots) / 1000.0 : 0;
+    }
+
+    // ===== BATCH =====
+    private record SlotDay(String yachtId, LocalDate date) {
+    }
 
-        // Try default time slots (with null check)
-        if (yacht.getTimeSlots() != null) {
-            yacht.getTimeSlots().stream()
-                    .filter(s -> s.getId().equals(booking.getSlotId()))
-                    .findFirst()
-                    .ifPresent(slot -> {
-                        booking.setSlotLabel(slot.getLabel());
-                        booking.setSlotStart(slot.getStart());
-                        booking.setSlotEnd(slot.getEnd());
-                    });
-        }
-
-        // Fallback: search all date overrides if slot not found
-        if (booking.getSlotStart() == null && yacht.getDateOverrides() != null) {
-            yacht.getDateOverrides().values().stream()
-                    .flatMap(List::stream)
-                    .filter(s -> s.getId().equals(booking.getSlotId()))
-                    .findFirst()
-                    .ifPresent(slot -> {
-                        booking.setSlotLabel(slot.getLabel());
-                        booking.setSlotStart(slot.getStart());
-                        booking.setSlotEnd(slot.getEnd());
-                    });
-        }
-    }
-
-    private BookingResponse mapToResponse(Booking b) {
-        return BookingResponse.builder()
-                .id(b.getId())
-                .bookingId(b.getBookingId())
-                .yachtId(b.getYachtId())
-                .yachtName(b.getYachtName())
-                .slotId(b.getSlotId())
-                .slotLabel(b.getSlotLabel())
-                .slotStart(b.getSlotStart())
-                .slotEnd(b.getSlotEnd())
-                .serviceDate(b.getServiceDate())
-                .customerName(b.getCustomerName())
-                .phone(b.getPhone())
-                .email(b.getEmail())
-                .status(b.getStatus())
-                .emailSent(b.isEmailSent())
-                .notes(b.getNotes())
-                .cancelReason(b.getCancelReason())
-                .rewardId(b.getRewardId())
-                .tokenTxTime(b.getTokenTxTime())
-                .createdAt(b.getCreatedAt())
-                .updatedAt(b.getUpdatedAt())
+    private BatchBookingResponse.ItemResult itemResult(int index, BatchItemStatus status, BookingResponse booking,
+            String message) {
+        return BatchBookingResponse.ItemResult.builder()
+                .index(index)
+                .status(status)
+                .booking(booking)
+                .message(message)
                 .build();
     }
+
+    // ===== EXPORT =====
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+
+    private static final String CSV_HEADER = "id,bookingId,yachtId,yachtName,slotId,slotLabel,slotStart,slotEnd,"
+            + "serviceDate,customerName,phone,email,status,emailSent,notes,cancelReason,rewardId,tokenTxTime,"
+            + "createdAt,updatedAt\r\n";
+
+    private String toCsvLine(BookingResponse b) {
+        return String.join(",",
+                csv(b.getId()), csv(b.getBookingId()), csv(b.getYachtId()), csv(b.getYachtName()),
+                csv(b.getSlotId()), csv(b.getSlotLabel()), csv(b.getSlotStart()), csv(b.getSlotEnd()),
+                csv(b.getServiceDate()), csv(b.getCustomerName()), csv(b.getPhone()), csv(b.getEmail()),
+                csv(b.getStatus()), csv(b.isEmailSent()), csv(b.getNotes()), csv(b.getCancelReason()),
+                csv(b.getRewardId()), csv(b.getTokenTxTime()), csv(b.getCreatedAt()), csv(b.getUpdatedAt()))
+                + "\r\n";
+    }
+
+    // RFC 4180 quoting
+    private String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    // ===== CURSOR =====
+    private record Page(List<Booking> rows, String nextCursor) {
+    }
+
+    private Page findPage(BookingFilter filter, String cursor, int limit, Set<String> fields) {
+        int pageSize = limit <= 0 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+
+        LocalDate afterDate = null;
+        String afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] position = decodeCursor(cursor);
+            afterDate = LocalDate.parse(position[0]);
+            afterId = position[1];
+        }
+
+        // Fetch one extra row to know whether another page exists; the archive tier is merged in
+        // by keyset position when the filter reaches back into it
+        List<Booking> rows = bookingRepository.findPage(filter, afterDate, afterId, pageSize + 1, fields);
+        if (archive.reaches(filter)) {
+            List<Booking> archived = bookingRepository.findArchivedPage(filter, afterDate, afterId, pageSize + 1,
+                    fields);
+            List<Booking> page = new ArrayList<>(pageSize + 1);
+            merged(rows.iterator(), archived.iterator()).forEachRemaining(b -> {
+                if (page.size() <= pageSize) {
+                    page.add(b);
+                }
+            });
+            rows = page;
+        }
+        boolean hasMore = rows.size() > pageSize;
+        if (hasMore) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        String nextCursor = null;
+        if (hasMore) {
+            Booking last = rows.get(rows.size() - 1);
+            nextCursor = encodeCursor(last.getServiceDate(), last.getId());
+        }
+        return new Page(rows, nextCursor);
+    }
+
+    // Opaque token: base64url("YYYY-MM-DD|id")
+    private String encodeCursor(LocalDate serviceDate, String id) {
+        String raw = serviceDate + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 2);
+            if (parts.length != 2 || parts[1].isEmpty()) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            LocalDate.parse(parts[0]);
+            return parts;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    // ===== ARCHIVE =====
+    private static final Comparator<Booking> KEYSET_ORDER = Comparator.comparing(Booking::getServiceDate)
+            .thenComparing(Booking::getId);
+
+    // Two-way merge of cursors that are both ordered by (serviceDate, id)
+    private static Iterator<Booking> merged(Iterator<Booking> a, Iterator<Booking> b) {
+        if (!b.hasNext()) {
+            return a;
+        }
+        return new Iterator<>() {
+            private Booking nextA = a.hasNext() ? a.next() : null;
+            private Booking nextB = b.hasNext() ? b.next() : null;
+
+            @Override
+            public boolean hasNext() {
+                return nextA != null || nextB != null;
+            }
+
+            @Override
+            public Booking next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Booking result;
+                if (nextB == null || (nextA != null && KEYSET_ORDER.compare(nextA, nextB) <= 0)) {
+                    result = nextA;
+                    nextA = a.hasNext() ? a.next() : null;
+                } else {
+                    result = nextB;
+                    nextB = b.hasNext() ? b.next() : null;
+                }
+                return result;
+            }
+        };
+    }
+
+    // ===== HELPER =====
+    // A booking missing from the hot collection may have been archived: 410 rather than 404
+    private RuntimeException missing(String id) {
+        return bookingRepository.existsArchivedById(id) ? rules.bookingArchived(id) : rules.bookingNotFound(id);
+    }
+
+    // Served from the yacht catalog cache
+    private Yacht findYacht(String yachtId) {
+        Yacht yacht = yachtId != null ? yachtCatalog.findById(yachtId) : null;
+        if (yacht == null) {
+            throw rules.yachtNotFound();
+        }
+        return yacht;
+    }
 }
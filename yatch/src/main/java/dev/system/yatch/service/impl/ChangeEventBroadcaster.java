@@ -0,0 +1,101 @@
+package dev.system.yatch.service.impl;
+
+import dev.system.yatch.dto.response.ChangeEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fans ChangeEvents out to SSE subscribers.
+ * Each subscriber has a bounded queue drained by its own virtual thread, so a slow
+ * client never blocks the writer that published the event. A subscriber whose queue
+ * is full is dropped; EventSource clients reconnect and reload.
+ */
+@Component
+@Slf4j
+public class ChangeEventBroadcaster {
+
+    private static final Duration HEARTBEAT = Duration.ofSeconds(25);
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final int bufferSize;
+    private final long timeoutMillis;
+
+    public ChangeEventBroadcaster(
+            @Value("${yatch.events.buffer-size:256}") int bufferSize,
+            @Value("${yatch.events.timeout:30m}") Duration timeout) {
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    public SseEmitter subscribe() {
+        Subscriber subscriber = new Subscriber(new SseEmitter(timeoutMillis), new ArrayBlockingQueue<>(bufferSize));
+        subscriber.emitter.onCompletion(() -> drop(subscriber));
+        subscriber.emitter.onTimeout(() -> drop(subscriber));
+        subscriber.emitter.onError(e -> drop(subscriber));
+
+        subscribers.add(subscriber);
+        subscriber.worker = Thread.ofVirtual().name("sse-subscriber").start(() -> drain(subscriber));
+        return subscriber.emitter;
+    }
+
+    @EventListener
+    public void onChange(ChangeEvent event) {
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.queue.offer(event)) {
+                log.warn("Dropping slow SSE subscriber (buffer of {} events full)", bufferSize);
+                drop(subscriber);
+                subscriber.emitter.complete();
+            }
+        }
+    }
+
+    // ===== HELPER =====
+    private void drain(Subscriber subscriber) {
+        try {
+            while (subscribers.contains(subscriber)) {
+                ChangeEvent event = subscriber.queue.poll(HEARTBEAT.toMillis(), TimeUnit.MILLISECONDS);
+                if (event == null) {
+                    // Keeps proxies from closing an idle stream
+                    subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+                    continue;
+                }
+                subscriber.emitter.send(SseEmitter.event()
+                        .name(event.getEntity())
+                        .data(event));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException e) {
+            // Client went away
+            drop(subscriber);
+        }
+    }
+
+    private void drop(Subscriber subscriber) {
+        if (subscribers.remove(subscriber) && subscriber.worker != null) {
+            subscriber.worker.interrupt();
+        }
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<ChangeEvent> queue;
+        private volatile Thread worker;
+
+        private Subscriber(SseEmitter emitter, BlockingQueue<ChangeEvent> queue) {
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package dev.system.yatch.service.impl;
+
+import dev.system.yatch.dto.response.ChangeEvent;
+import dev.system.yatch.enums.ChangeAction;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Builds ChangeEvents from response snapshots and publishes them as application events.
+ * Listeners (e.g. the SSE broadcaster) must not block the writing thread.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChangeEventPublisher {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    public void created(String entity, String id, Object snapshot) {
+        publish(entity, ChangeAction.CREATED, id, toMap(snapshot));
+    }
+
+    // Only fields whose value differs between the two snapshots are sent
+    public void updated(String entity, String id, Object before, Object after) {
+        Map<String, Object> previous = toMap(before);
+        Map<String, Object> changes = new LinkedHashMap<>();
+        toMap(after).forEach((field, value) -> {
+            if (!Objects.equals(previous.get(field), value)) {
+                changes.put(field, value);
+            }
+        });
+        if (!changes.isEmpty()) {
+            publish(entity, ChangeAction.UPDATED, id, changes);
+        }
+    }
+
+    // Atomic $set updates have no before snapshot: send the written fields with their new values
+    public void patched(String entity, String id, Object after, Update update) {
+        Map<String, Object> current = toMap(after);
+        Map<String, Object> changes = new LinkedHashMap<>();
+        Set<String> fields = new LinkedHashSet<>();
+        for (String operator : List.of("$set", "$inc")) {
+            Document written = update.getUpdateObject().get(operator, Document.class);
+            if (written != null) {
+                fields.addAll(written.keySet());
+            }
+        }
+        fields.forEach(field -> {
+            if (current.containsKey(field)) {
+                changes.put(field, current.get(field));
+            }
+        });
+        if (!changes.isEmpty()) {
+            publish(entity, ChangeAction.UPDATED, id, changes);
+        }
+    }
+
+    public void deleted(String entity, String id) {
+        publish(entity, ChangeAction.DELETED, id, null);
+    }
+
+    // ===== HELPER =====
+    private void publish(String entity, ChangeAction action, String id, Map<String, Object> changes) {
+        eventPublisher.publishEvent(ChangeEvent.builder()
+                .entity(entity)
+                .action(action)
+                .id(id)
+                .changes(changes)
+                .timestamp(LocalDateTime.now())
+                .build());
+    }
+
+    private Map<String, Object> toMap(Object snapshot) {
+        return snapshot != null ? objectMapper.convertValue(snapshot, MAP_TYPE) : Map.of();
+    }
+}
@@ -0,0 +1,194 @@
+package dev.system.yatch.service.impl;
+
+import dev.system.yatch.dto.common.EmailMessage;
+import dev.system.yatch.dto.response.ChangeEvent;
+import dev.system.yatch.entity.Booking;
+import dev.system.yatch.entity.EmailDispatch;
+import dev.system.yatch.enums.EmailKind;
+import dev.system.yatch.service.EmailSender;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Drains the booking email outbox in batches, off the request threads.
+ * Each round claims due entries with a lease (so nodes do not share work), hands the batch
+ * to the EmailSender, then settles it with one bulk write: delivered entries are removed and
+ * emailSent set, failed ones retry with exponential backoff until max-attempts parks them.
+ * Delivery is at-least-once: an entry whose lease expires mid-send can be sent again.
+ */
+@Component
+@Slf4j
+public class EmailDispatcher {
+
+    private static final String NEXT_ATTEMPT = EmailOutbox.FIELD + ".nextAttemptAt";
+    private static final String LEASE_UNTIL = EmailOutbox.FIELD + ".leaseUntil";
+    private static final String CLAIMED_BY = EmailOutbox.FIELD + ".claimedBy";
+    private static final String DISPATCH_ID = EmailOutbox.FIELD + ".id";
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    private final MongoTemplate mongoTemplate;
+    private final EmailSender sender;
+    private final ChangeEventPublisher changeEvents;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration backoff;
+    private final Duration lease;
+
+    public EmailDispatcher(MongoTemplate mongoTemplate, EmailSender sender, ChangeEventPublisher changeEvents,
+            @Value("${yatch.mail.batch-size:100}") int batchSize,
+            @Value("${yatch.mail.max-attempts:8}") int maxAttempts,
+            @Value("${yatch.mail.backoff:PT30S}") Duration backoff,
+            @Value("${yatch.mail.lease:PT2M}") Duration lease) {
+        this.mongoTemplate = mongoTemplate;
+        this.sender = sender;
+        this.changeEvents = changeEvents;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoff = backoff;
+        this.lease = lease;
+    }
+
+    // Full batches mean a backlog: keep draining until a round comes back short
+    @Scheduled(fixedDelayString = "${yatch.mail.poll-interval:PT5S}")
+    public void dispatch() {
+        while (dispatchBatch() >= batchSize) {
+            // next round
+        }
+    }
+
+    // Returns the number of due entries seen, claimed by this node or not
+    int dispatchBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        Query due = new Query(new Criteria().andOperator(
+                Criteria.where(NEXT_ATTEMPT).lte(now),
+                new Criteria().orOperator(Criteria.where(LEASE_UNTIL).is(null), Criteria.where(LEASE_UNTIL).lt(now))))
+                .with(Sort.by(Sort.Order.asc(NEXT_ATTEMPT)))
+                .limit(batchSize);
+        due.fields().include(EmailOutbox.FIELD);
+        List<Booking> candidates = mongoTemplate.find(due, Booking.class);
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+
+        String token = UUID.randomUUID().toString();
+        List<Booking> claimed = claim(candidates, token, now);
+        if (!claimed.isEmpty()) {
+            settle(claimed, deliver(claimed), token, now);
+        }
+        return candidates.size();
+    }
+
+    // ===== HELPER =====
+    // Guarded on the lease that was read, so only one node wins each entry
+    private List<Booking> claim(List<Booking> candidates, String token, LocalDateTime now) {
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Booking.class);
+        List<String> ids = new ArrayList<>(candidates.size());
+        for (Booking booking : candidates) {
+            EmailDispatch dispatch = booking.getEmailDispatch();
+            bulk.updateOne(Query.query(Criteria.where("id").is(booking.getId())
+                            .and(DISPATCH_ID).is(dispatch.getId())
+                            .and(LEASE_UNTIL).is(dispatch.getLeaseUntil())),
+                    new Update().set(CLAIMED_BY, token).set(LEASE_UNTIL, now.plus(lease)));
+            ids.add(booking.getId());
+        }
+        if (bulk.execute().getModifiedCount() == 0) {
+            return List.of();
+        }
+        return mongoTemplate.find(Query.query(Criteria.where("id").in(ids).and(CLAIMED_BY).is(token)), Booking.class);
+    }
+
+    // Failures by booking id; a sender that throws fails the whole batch
+    private Map<String, String> deliver(List<Booking> claimed) {
+        List<EmailMessage> messages = claimed.stream().map(EmailDispatcher::render).toList();
+        try {
+            return sender.send(messages);
+        } catch (RuntimeException e) {
+            Map<String, String> failed = new HashMap<>();
+            claimed.forEach(b -> failed.put(b.getId(), String.valueOf(e.getMessage())));
+            return failed;
+        }
+    }
+
+    // One bulk write for the batch; an entry re-queued meanwhile (new dispatch id) is left alone
+    private void settle(List<Booking> claimed, Map<String, String> failures, String token, LocalDateTime now) {
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Booking.class);
+        List<String> sent = new ArrayList<>();
+        for (Booking booking : claimed) {
+            EmailDispatch dispatch = booking.getEmailDispatch();
+            Query mine = Query.query(Criteria.where("id").is(booking.getId())
+                    .and(DISPATCH_ID).is(dispatch.getId())
+                    .and(CLAIMED_BY).is(token));
+            String error = failures.get(booking.getId());
+            if (error == null) {
+                bulk.updateOne(mine, Patches.bumpVersion(new Update()
+                        .set("emailSent", true)
+                        .unset(EmailOutbox.FIELD)));
+                sent.add(booking.getId());
+                continue;
+            }
+
+            int attempts = dispatch.getAttempts() + 1;
+            Update update = new Update()
+                    .set(EmailOutbox.FIELD + ".attempts", attempts)
+                    .set(EmailOutbox.FIELD + ".lastError", error)
+                    .unset(CLAIMED_BY)
+                    .unset(LEASE_UNTIL);
+            if (attempts >= maxAttempts) {
+                // Parked: out of the outbox index, kept on the booking for inspection
+                update.unset(NEXT_ATTEMPT).set(EmailOutbox.FIELD + ".failedAt", now);
+                log.warn("Giving up on {} email for booking {} after {} attempts: {}",
+                        dispatch.getKind(), booking.getBookingId(), attempts, error);
+            } else {
+                update.set(NEXT_ATTEMPT, now.plus(backoffAfter(attempts)));
+            }
+            bulk.updateOne(mine, update);
+        }
+        bulk.execute();
+
+        Map<String, Object> before = Map.of("emailSent", false);
+        Map<String, Object> after = Map.of("emailSent", true);
+        sent.forEach(id -> changeEvents.updated(ChangeEvent.BOOKING, id, before, after));
+    }
+
+    // backoff, 2x, 4x, ... capped at an hour
+    private Duration backoffAfter(int attempts) {
+        Duration delay = backoff.multipliedBy(1L << Math.min(attempts - 1, 16));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+
+    private static EmailMessage render(Booking booking) {
+        EmailKind kind = booking.getEmailDispatch().getKind();
+        String subject = kind == EmailKind.CONFIRMATION
+                ? "Your booking " + booking.getBookingId() + " is confirmed"
+                : "We received your booking " + booking.getBookingId();
+        String body = "Hi " + booking.getCustomerName() + ",\n\n"
+                + "Yacht: " + booking.getYachtName() + "\n"
+                + "Date: " + booking.getServiceDate() + "\n"
+                + "Time: " + booking.getSlotLabel() + " (" + booking.getSlotStart() + " - " + booking.getSlotEnd()
+                + ")\n\n"
+                + "Booking reference: " + booking.getBookingId() + "\n";
+        return EmailMessage.builder()
+                .bookingId(booking.getId())
+                .kind(kind)
+                .to(booking.getEmail())
+                .subject(subject)
+                .body(body)
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package dev.system.yatch.service.impl;
+
+import dev.system.yatch.entity.Booking;
+import dev.system.yatch.entity.EmailDispatch;
+import dev.system.yatch.enums.BookingStatus;
+import dev.system.yatch.enums.EmailKind;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entries of the email outbox embedded in bookings (Booking.emailDispatch).
+ * One entry per booking: a newer email (confirmation) replaces one still queued.
+ */
+final class EmailOutbox {
+
+    static final String FIELD = "emailDispatch";
+
+    private EmailOutbox() {
+    }
+
+    static EmailDispatch entry(EmailKind kind) {
+        LocalDateTime now = LocalDateTime.now();
+        return EmailDispatch.builder()
+                .id(UUID.randomUUID().toString())
+                .kind(kind)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+    }
+
+    // Queued with a new booking unless there is no address or it was recorded as already sent
+    static EmailDispatch onCreate(Booking booking) {
+        if (!hasAddress(booking.getEmail()) || booking.isEmailSent()) {
+            return null;
+        }
+        return entry(booking.getStatus() == BookingStatus.CONFIRMED ? EmailKind.CONFIRMATION : EmailKind.RECEIVED);
+    }
+
+    static boolean hasAddress(String email) {
+        return email != null && !email.isBlank();
+    }
+}
@@ -0,0 +1,72 @@
+package dev.system.yatch.service.impl;
+
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Client-selectable fields of an entity (?fields=a,b and view=summary).
+ * The selection is pushed down to Mongo as a projection and rendered as a map
+ * holding only those fields, so unselected fields are never read or serialized.
+ */
+final class FieldSet<T> {
+
+    static final String SUMMARY_VIEW = "summary";
+
+    private final Map<String, Function<T, Object>> accessors = new LinkedHashMap<>();
+    private final List<String> summary;
+
+    FieldSet(String... summary) {
+        this.summary = List.of(summary);
+    }
+
+    // Selectable fields, in output order; "id" is always returned
+    FieldSet<T> field(String name, Function<T, Object> accessor) {
+        accessors.put(name, accessor);
+        return this;
+    }
+
+    Set<String> select(String fields, String view) {
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add("id");
+        if (view != null) {
+            if (!SUMMARY_VIEW.equals(view)) {
+                throw new IllegalArgumentException("View is invalid: " + view);
+            }
+            selected.addAll(summary);
+        }
+        if (fields != null) {
+            for (String field : fields.split(",")) {
+                String name = field.trim();
+                if (name.isEmpty()) {
+                    continue;
+                }
+                if (!accessors.containsKey(name)) {
+                    throw new IllegalArgumentException("Field is invalid: " + name);
+                }
+                selected.add(name);
+            }
+        }
+        return selected;
+    }
+
+    Query project(Query query, Set<String> selected) {
+        selected.forEach(query.fields()::include);
+        return query;
+    }
+
+    Map<String, Object> render(T entity, Set<String> selected) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        accessors.forEach((field, accessor) -> {
+            if (selected.contains(field)) {
+                row.put(field, accessor.apply(entity));
+            }
+        });
+        return row;
+    }
+}
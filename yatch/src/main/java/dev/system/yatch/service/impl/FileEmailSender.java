@@ -0,0 +1,50 @@
+package dev.system.yatch.service.impl;
+
+import dev.system.yatch.dto.common.EmailMessage;
+import dev.system.yatch.service.EmailSender;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Local sink: appends each batch to an NDJSON file (yatch.mail.sender=file, path yatch.mail.file)
+ */
+@Component
+@ConditionalOnProperty(name = "yatch.mail.sender", havingValue = "file")
+public class FileEmailSender implements EmailSender {
+
+    private final ObjectMapper objectMapper;
+    private final Path file;
+
+    public FileEmailSender(ObjectMapper objectMapper, @Value("${yatch.mail.file:mail-outbox.ndjson}") String file) {
+        this.objectMapper = objectMapper;
+        this.file = Path.of(file);
+    }
+
+    @Override
+    public synchronized Map<String, String> send(List<EmailMessage> messages) {
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (EmailMessage message : messages) {
+                out.write(objectMapper.writeValueAsString(message));
+                out.newLine();
+            }
+            return Map.of();
+        } catch (IOException e) {
+            Map<String, String> failed = new HashMap<>();
+            messages.forEach(m -> failed.put(m.getBookingId(), e.getMessage()));
+            return failed;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package dev.system.yatch.service.impl;
+
+import dev.system.yatch.config.CacheConfig;
+import dev.system.yatch.entity.IdempotencyRecord;
+import dev.system.yatch.service.IdempotencyService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.ObjectMapper;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key handling for booking writes.
+ * The first request inserts an in-progress record (unique _id), runs, and stores its result;
+ * repeats are answered from the Caffeine front cache or the idempotency_keys collection.
+ * A failed run removes its record, so the key can be retried.
+ */
+@Service
+@RequiredArgsConstructor
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    static final int MAX_KEY_LENGTH = 255;
+    // An in-progress record older than this belongs to a request that died; it may be taken over
+    static final Duration LEASE = Duration.ofMinutes(1);
+
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+    private final CacheManager cacheManager;
+
+    @Override
+    public <T> T execute(String operation, String key, Object request, Class<T> resultType, Supplier<T> action) {
+        if (key == null) {
+            return action.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key is invalid (1-" + MAX_KEY_LENGTH + " characters)");
+        }
+
+        String id = operation + ":" + key;
+        String hash = hash(request);
+        Cache cache = cacheManager.getCache(CacheConfig.IDEMPOTENCY);
+        IdempotencyRecord stored = cache != null ? cache.get(id, IdempotencyRecord.class) : null;
+        if (stored == null) {
+            stored = claim(id, hash);
+        }
+        if (stored != null) {
+            return replay(stored, hash, resultType, cache);
+        }
+
+        T result;
+        try {
+            result = action.get();
+        } catch (RuntimeException e) {
+            mongoTemplate.remove(Query.query(Criteria.where("id").is(id).and("completed").is(false)),
+                    IdempotencyRecord.class);
+            throw e;
+        }
+
+        IdempotencyRecord completed = IdempotencyRecord.builder()
+                .id(id)
+                .requestHash(hash)
+                .completed(true)
+                .response(objectMapper.writeValueAsString(result))
+                .build();
+        mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(id)),
+                new Update().set("completed", true).set("response", completed.getResponse()).unset("lockedUntil"),
+                IdempotencyRecord.class);
+        if (cache != null) {
+            cache.put(id, completed);
+        }
+        return result;
+    }
+
+    // ===== HELPER =====
+    // Returns null when this request now owns the key, or the completed record to replay
+    private IdempotencyRecord claim(String id, String hash) {
+        LocalDateTime now = LocalDateTime.now();
+        for (int attempt = 1;; attempt++) {
+            try {
+                mongoTemplate.insert(IdempotencyRecord.builder()
+                        .id(id)
+                        .requestHash(hash)
+                        .lockedUntil(now.plus(LEASE))
+                        .createdAt(now)
+                        .build());
+                return null;
+            } catch (DuplicateKeyException e) {
+                IdempotencyRecord existing = mongoTemplate.findById(id, IdempotencyRecord.class);
+                if (existing == null) {
+                    // Released by a failed run (or expired) in between
+                    if (attempt < 2) {
+                        continue;
+                    }
+                    throw inProgress();
+                }
+                if (existing.isCompleted()) {
+                    return existing;
+                }
+                if (!hash.equals(existing.getRequestHash())) {
+                    throw mismatch();
+                }
+                if (existing.getLockedUntil() != null && existing.getLockedUntil().isBefore(now)
+                        && mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(id)
+                                        .and("completed").is(false)
+                                        .and("lockedUntil").is(existing.getLockedUntil())),
+                                new Update().set("lockedUntil", now.plus(LEASE)),
+                                IdempotencyRecord.class).getModifiedCount() == 1) {
+                    return null;
+                }
+                throw inProgress();
+            }
+        }
+    }
+
+    private <T> T replay(IdempotencyRecord stored, String hash, Class<T> resultType, Cache cache) {
+        if (!hash.equals(stored.getRequestHash())) {
+            throw mismatch();
+        }
+        if (cache != null) {
+            cache.put(stored.getId(), stored);
+        }
+        return objectMapper.readValue(stored.getResponse(), resultType);
+    }
+
+    private String hash(Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(request)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Mapped to 409 by GlobalExceptionHandler
+    private static RuntimeException inProgress() {
+        return new RuntimeException("A request with this Idempotency-Key is still in progress");
+    }
+
+    // Mapped to 422 by GlobalExceptionHandler
+    private static RuntimeException mismatch() {
+        return new RuntimeException("Idempotency-Key was used with a different request: unprocessable");
+    }
+}
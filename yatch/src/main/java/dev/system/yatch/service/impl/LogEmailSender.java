@@ -0,0 +1,25 @@
+package dev.system.yatch.service.impl;
+
+import dev.system.yatch.dto.common.EmailMessage;
+import dev.system.yatch.service.EmailSender;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SMTP stand-in: logs every message and reports success (yatch.mail.sender=log, the default)
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "yatch.mail.sender", havingValue = "log", matchIfMissing = true)
+public class LogEmailSender implements EmailSender {
+
+    @Override
+    public Map<String, String> send(List<EmailMessage> messages) {
+        messages.forEach(m -> log.info("Email {} to {}: {}", m.getKind(), m.getTo(), m.getSubject()));
+        return Map.of();
+    }
+}
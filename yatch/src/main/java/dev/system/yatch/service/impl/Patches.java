@@ -0,0 +1,62 @@
+package dev.system.yatch.service.impl;
+
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Helpers for PATCH endpoints: only the fields present in the request are $set,
+ * in one findAndModify that returns the new document. Every write bumps the
+ * document version; an expected version (If-Match) becomes part of the filter.
+ */
+final class Patches {
+
+    static final String VERSION = "version";
+
+    private Patches() {
+    }
+
+    static void setIfPresent(Update update, String field, Object value) {
+        if (value != null) {
+            update.set(field, value);
+        }
+    }
+
+    static Query byId(String id, Long expectedVersion) {
+        return new Query(idAndVersion(id, expectedVersion));
+    }
+
+    // Documents written before versioning have no version field and count as version 0
+    static Criteria idAndVersion(String id, Long expectedVersion) {
+        Criteria criteria = Criteria.where("id").is(id);
+        if (expectedVersion != null) {
+            criteria.and(VERSION).in(expectedVersion == 0 ? Arrays.asList(0L, null) : List.of(expectedVersion));
+        }
+        return criteria;
+    }
+
+    static Update bumpVersion(Update update) {
+        return update.inc(VERSION, 1);
+    }
+
+    static long versionOf(Long version) {
+        return version != null ? version : 0;
+    }
+
+    static boolean matches(Long expectedVersion, Long actual) {
+        return expectedVersion == null || expectedVersion == versionOf(actual);
+    }
+
+    // Mapped to 412 by GlobalExceptionHandler
+    static RuntimeException versionMismatch(String entity, String id) {
+        return new RuntimeException(entity + " " + id + " has changed: precondition failed");
+    }
+
+    static FindAndModifyOptions returnNew() {
+        return FindAndModifyOptions.options().returnNew(true);
+    }
+}
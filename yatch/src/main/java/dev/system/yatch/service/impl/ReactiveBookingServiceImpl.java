@@ -0,0 +1,228 @@
+package dev.system.yatch.service.impl;
+
+import dev.system.yatch.config.CacheConfig;
+import dev.system.yatch.dto.request.BookingFilter;
+import dev.system.yatch.dto.request.BookingRequest;
+import dev.system.yatch.dto.response.BookingResponse;
+import dev.system.yatch.dto.response.ChangeEvent;
+import dev.system.yatch.entity.Booking;
+import dev.system.yatch.entity.Yacht;
+import dev.system.yatch.enums.BookingStatus;
+import dev.system.yatch.repository.ReactiveBookingRepository;
+import dev.system.yatch.repository.ReactiveYachtRepository;
+import dev.system.yatch.service.AvailabilityService;
+import dev.system.yatch.service.ReactiveBookingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDate;
+
+
+/**
+ * Reactive twin of BookingServiceImpl.
+ * Validation, enrichment and mapping come from BookingRules (all in-memory), so the only
+ * I/O on these pipelines is the reactive Mongo driver. The blocking steps - leasing a new
+ * block of booking numbers, compiling a yacht's slot resolver on a cache miss - run on the
+ * bounded-elastic scheduler.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveBookingServiceImpl implements ReactiveBookingService {
+
+    private final ReactiveBookingRepository bookingRepository;
+    private final ReactiveYachtRepository yachtRepository;
+    private final CacheManager cacheManager;
+    private final YachtCatalog yachtCatalog;
+    private final AvailabilityService availabilityService;
+    private final BookingRules rules;
+    private final BookingIds bookingIds;
+    private final ChangeEventPublisher changeEvents;
+
+    @Override
+    public Flux<BookingResponse> streamBookings(BookingFilter filter) {
+        return bookingRepository.streamByFilter(filter).map(rules::mapToResponse);
+    }
+
+    @Override
+    public Mono<BookingResponse> getBookingById(String id) {
+        return findBooking(id).map(rules::mapToResponse);
+    }
+
+    @Override
+    public Mono<BookingResponse> createBooking(BookingRequest request) {
+        if (request.getHoldId() != null) {
+            // Holds are claimed on the blocking API only
+            return Mono.error(new IllegalArgumentException("holdId is invalid here: book held slots via /api/bookings"));
+        }
+        return findYacht(request.getYachtId())
+                .flatMap(yacht -> validateSlot(request.getYachtId(), request.getServiceDate(), request.getSlotId(), null)
+                        .then(nextBookingId())
+                        .map(bookingId -> rules.buildBooking(request, yacht, bookingId)))
+                .flatMap(booking -> saveClaimingSlot(booking, 1))
+                .map(saved -> {
+                    availabilityService.track(saved);
+                    BookingResponse response = rules.mapToResponse(saved);
+                    changeEvents.created(ChangeEvent.BOOKING, saved.getId(), response);
+                    return response;
+                });
+    }
+
+    @Override
+    public Mono<BookingResponse> updateBooking(String id, BookingRequest request) {
+        return patchBooking(id, request, 1);
+    }
+
+    @Override
+    public Mono<Void> deleteBooking(String id) {
+        return bookingRepository.deleteById(id)
+                .then(Mono.fromRunnable(() -> {
+                    availabilityService.untrack(id);
+                    changeEvents.deleted(ChangeEvent.BOOKING, id);
+                }));
+    }
+
+    // ===== HELPER =====
+    private Mono<Booking> findBooking(String id) {
+        return bookingRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> rules.bookingNotFound(id)));
+    }
+
+    // A slot hold is booked through holdId, not patched
+    private Mono<Booking> findEditable(String id) {
+        return findBooking(id).flatMap(booking -> booking.getStatus() == BookingStatus.HELD
+                ? Mono.error(rules.holdNotEditable(id))
+                : Mono.just(booking));
+    }
+
+    // Same cache as YachtCatalog.findById; a miss is loaded reactively and cached.
+    // Emits once the yacht's slot resolver is cached too, so enrichSlotDetails stays in memory.
+    private Mono<Yacht> findYacht(String yachtId) {
+        if (yachtId == null) {
+            return Mono.error(rules::yachtNotFound);
+        }
+        Cache cache = cacheManager.getCache(CacheConfig.YACHTS);
+        Yacht cached = cache != null ? cache.get(yachtId, Yacht.class) : null;
+        if (cached != null) {
+            return withResolver(cached);
+        }
+        return yachtRepository.findById(yachtId)
+                .doOnNext(yacht -> {
+                    if (cache != null) {
+                        cache.put(yachtId, yacht);
+                    }
+                })
+                .switchIfEmpty(Mono.error(rules::yachtNotFound))
+                .flatMap(this::withResolver);
+    }
+
+    // A resolver miss compiles it from yacht_date_overrides with a blocking read: done on bounded-elastic
+    private Mono<Yacht> withResolver(Yacht yacht) {
+        Cache cache = cacheManager.getCache(CacheConfig.SLOT_RESOLVERS);
+        if (cache != null && cache.get(yacht.getId()) != null) {
+            return Mono.just(yacht);
+        }
+        return Mono.fromCallable(() -> yachtCatalog.resolverFor(yacht))
+                .subscribeOn(Schedulers.boundedElastic())
+                .thenReturn(yacht);
+    }
+
+    // Stored slot, and the stored fields behind searchKeys / the queued email; either may be absent
+    private record Guard(Booking expectedSlot, Booking derivedFrom) {
+        String yachtId() {
+            return expectedSlot != null ? expectedSlot.getYachtId() : null;
+        }
+    }
+
+    // Same flow as BookingServiceImpl.updateBooking: one guarded findAndModify, re-read while the slot moves
+    private Mono<BookingResponse> patchBooking(String id, BookingRequest request, int attempt) {
+        Update update = rules.patchOf(request);
+        Mono<Guard> guard = rules.touchesSlot(request) || rules.touchesDerived(request)
+                ? findEditable(id).flatMap(booking -> {
+                    Booking derivedFrom = rules.touchesDerived(request)
+                            ? rules.setDerived(update, booking, request)
+                            : null;
+                    return rules.touchesSlot(request) && rules.changesSlot(booking, request)
+                            ? moveSlot(booking, request, update).map(expected -> new Guard(expected, derivedFrom))
+                            : Mono.just(new Guard(null, derivedFrom));
+                })
+                : Mono.just(new Guard(null, null));
+
+        return guard.flatMap(g -> bookingRepository
+                .patch(rules.patchCriteria(id, null, g.expectedSlot(), g.derivedFrom()), update)
+                .onErrorMap(DuplicateKeyException.class, e -> e.getMessage() != null
+                        && e.getMessage().contains(Booking.ACTIVE_SLOT_INDEX)
+                                ? rules.slotConflict(g.yachtId())
+                                : e)
+                .map(saved -> {
+                    availabilityService.track(saved);
+                    BookingResponse response = rules.mapToResponse(saved);
+                    changeEvents.patched(ChangeEvent.BOOKING, id, response, update);
+                    return response;
+                })
+                // Nothing matched: deleted, or the slot or derived-from fields changed underneath us
+                .switchIfEmpty(findEditable(id).flatMap(current -> attempt >= BookingServiceImpl.MAX_PATCH_ATTEMPTS
+                        ? Mono.error(rules.modifiedConcurrently(id))
+                        : patchBooking(id, request, attempt + 1))));
+    }
+
+    // Validates the target slot and adds its snapshot fields to the update; emits the slot being left
+    private Mono<Booking> moveSlot(Booking booking, BookingRequest request, Update update) {
+        Booking expectedSlot = Booking.builder()
+                .yachtId(booking.getYachtId())
+                .serviceDate(booking.getServiceDate())
+                .slotId(booking.getSlotId())
+                .build();
+        rules.applyChanges(booking, request);
+
+        return validateSlot(booking.getYachtId(), booking.getServiceDate(), booking.getSlotId(), booking.getId())
+                .then(findYacht(booking.getYachtId()))
+                .map(yacht -> {
+                    if (!expectedSlot.getYachtId().equals(booking.getYachtId())) {
+                        booking.setYachtName(yacht.getName());
+                    }
+                    rules.enrichSlotDetails(booking, yacht);
+                    rules.setSlotDetails(update, booking);
+                    return expectedSlot;
+                });
+    }
+
+    // Reactive twin of SlotChecks.validate: only an availability index hit is confirmed in storage
+    private Mono<Void> validateSlot(String yachtId, LocalDate date, String slotId, String excludeBookingId) {
+        return Mono.defer(() -> rules.mayBeOccupied(yachtId, date, slotId, excludeBookingId)
+                ? bookingRepository.existsActiveSlot(yachtId, date, slotId, excludeBookingId)
+                        .flatMap(taken -> taken ? Mono.error(rules.slotConflict(yachtId)) : Mono.<Void>empty())
+                : Mono.empty());
+    }
+
+    private Mono<String> nextBookingId() {
+        return Mono.fromCallable(bookingIds::next).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    // Same contract as BookingServiceImpl.saveClaimingSlot: slot index -> 409, bookingId clash -> retry
+    private Mono<Booking> saveClaimingSlot(Booking booking, int attempt) {
+        return bookingRepository.save(booking)
+                .onErrorResume(DuplicateKeyException.class, e -> {
+                    String message = e.getMessage() != null ? e.getMessage() : "";
+                    if (message.contains(Booking.ACTIVE_SLOT_INDEX)) {
+                        return Mono.error(rules.slotConflict(booking.getYachtId()));
+                    }
+                    if (message.contains(Booking.BOOKING_ID_INDEX) && booking.getId() == null
+                            && attempt < BookingServiceImpl.MAX_ID_ATTEMPTS) {
+                        return nextBookingId().flatMap(bookingId -> {
+                            booking.setBookingId(bookingId);
+                            booking.setSearchKeys(SearchKeys.forBooking(booking));
+                            booking.setVersion(null);
+                            return saveClaimingSlot(booking, attempt + 1);
+                        });
+                    }
+                    return Mono.error(e);
+                });
+    }
+}
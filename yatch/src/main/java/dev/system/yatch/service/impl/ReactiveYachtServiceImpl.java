@@ -0,0 +1,89 @@
+package dev.system.yatch.service.impl;
+
+import dev.system.yatch.dto.request.YachtRequest;
+import dev.system.yatch.dto.response.ChangeEvent;
+import dev.system.yatch.dto.response.YachtResponse;
+import dev.system.yatch.entity.Yacht;
+import dev.system.yatch.repository.ReactiveYachtRepository;
+import dev.system.yatch.service.ReactiveYachtService;
+import dev.system.yatch.service.YachtDateOverrideService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@Service
+@RequiredArgsConstructor
+public class ReactiveYachtServiceImpl implements ReactiveYachtService {
+
+    private final ReactiveYachtRepository yachtRepository;
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final YachtCatalog yachtCatalog;
+    private final ChangeEventPublisher changeEvents;
+    private final YachtDateOverrideService overrideService;
+
+    @Override
+    public Flux<YachtResponse> getAllYachts() {
+        return yachtRepository.findAll().map(YachtServiceImpl::mapToResponse);
+    }
+
+    @Override
+    public Mono<YachtResponse> getYachtById(String id) {
+        return findYacht(id).map(YachtServiceImpl::mapToResponse);
+    }
+
+    @Override
+    public Mono<YachtResponse> createYacht(YachtRequest request) {
+        return yachtRepository.save(YachtServiceImpl.buildYacht(request))
+                .flatMap(saved -> replaceOverrides(saved.getId(), request).thenReturn(saved))
+                .map(saved -> {
+                    yachtCatalog.evict(saved.getId());
+                    YachtResponse response = YachtServiceImpl.mapToResponse(saved);
+                    changeEvents.created(ChangeEvent.YACHT, saved.getId(), response);
+                    return response;
+                });
+    }
+
+    @Override
+    public Mono<YachtResponse> updateYacht(String id, YachtRequest request) {
+        Update update = YachtServiceImpl.patchOf(request);
+        return mongoTemplate.findAndModify(Patches.byId(id, null), update, Patches.returnNew(), Yacht.class)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Yacht not found: " + id)))
+                .flatMap(saved -> replaceOverrides(id, request).thenReturn(saved))
+                .map(saved -> {
+                    yachtCatalog.evict(id);
+                    YachtResponse response = YachtServiceImpl.mapToResponse(saved);
+                    changeEvents.patched(ChangeEvent.YACHT, id, response, update);
+                    return response;
+                });
+    }
+
+    @Override
+    public Mono<Void> deleteYacht(String id) {
+        return yachtRepository.deleteById(id)
+                .then(Mono.fromRunnable(() -> overrideService.deleteAll(id))
+                        .subscribeOn(Schedulers.boundedElastic()))
+                .then(Mono.fromRunnable(() -> {
+                    yachtCatalog.evict(id);
+                    changeEvents.deleted(ChangeEvent.YACHT, id);
+                }));
+    }
+
+    // ===== HELPER =====
+    // Legacy dateOverrides map; the override store is blocking, so it runs on bounded-elastic
+    private Mono<Void> replaceOverrides(String yachtId, YachtRequest request) {
+        if (request.getDateOverrides() == null) {
+            return Mono.empty();
+        }
+        return Mono.<Void>fromRunnable(() -> overrideService.replaceAll(yachtId, request.getDateOverrides()))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Mono<Yacht> findYacht(String id) {
+        return yachtRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Yacht not found: " + id)));
+    }
+}
@@ -0,0 +1,113 @@
+package dev.system.yatch.service.impl;
+
+import dev.system.yatch.dto.request.BookingSeriesRequest;
+import dev.system.yatch.enums.RecurrenceFrequency;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Expands a series' recurrence rule and explicit dates into its sorted, distinct service dates.
+ * Rules follow the RFC 5545 subset the booking form offers: FREQ, INTERVAL, BYDAY (weekly),
+ * UNTIL and COUNT. Expansion stops at maxDates so a rule cannot produce an unbounded series.
+ */
+final class Recurrences {
+
+    // Days, weeks or months between occurrences
+    static final int MAX_INTERVAL = 366;
+
+    private Recurrences() {
+    }
+
+    static NavigableSet<LocalDate> expand(BookingSeriesRequest request, int maxDates) {
+        NavigableSet<LocalDate> dates = new TreeSet<>();
+        if (request.getDates() != null) {
+            for (LocalDate date : request.getDates()) {
+                if (date == null) {
+                    throw new IllegalArgumentException("Series dates are invalid: null date");
+                }
+                dates.add(date);
+            }
+        }
+        if (request.getRecurrence() != null) {
+            dates.addAll(expand(request.getRecurrence(), maxDates));
+        }
+        if (dates.isEmpty()) {
+            throw new IllegalArgumentException("A recurrence or dates are required");
+        }
+        if (dates.size() > maxDates) {
+            throw new IllegalArgumentException("Series is invalid: more than " + maxDates + " dates");
+        }
+        return dates;
+    }
+
+    // ===== HELPER =====
+    private static List<LocalDate> expand(BookingSeriesRequest.Recurrence rule, int maxDates) {
+        if (rule.getFrequency() == null || rule.getStartDate() == null) {
+            throw new IllegalArgumentException("Recurrence frequency and startDate are required");
+        }
+        if (rule.getUntil() == null && rule.getCount() == null) {
+            throw new IllegalArgumentException("Recurrence until or count is required");
+        }
+        int interval = rule.getInterval() != null ? rule.getInterval() : 1;
+        // Without a count, expanding one past the limit is enough to tell the rule is too long
+        int count = rule.getCount() != null ? rule.getCount() : maxDates + 1;
+        if (interval < 1 || interval > MAX_INTERVAL || count < 1 || (rule.getCount() != null && count > maxDates)) {
+            throw new IllegalArgumentException("Recurrence is invalid (interval 1-" + MAX_INTERVAL
+                    + ", count 1-" + maxDates + ")");
+        }
+        LocalDate start = rule.getStartDate();
+        LocalDate until = rule.getUntil() != null ? rule.getUntil() : LocalDate.MAX;
+
+        TreeSet<LocalDate> dates = new TreeSet<>();
+        try {
+            switch (rule.getFrequency()) {
+                case DAILY -> {
+                    for (LocalDate date = start; !date.isAfter(until) && dates.size() < count; date = date.plusDays(interval)) {
+                        dates.add(date);
+                    }
+                }
+                case WEEKLY -> {
+                    Set<DayOfWeek> days = rule.getDaysOfWeek() != null && !rule.getDaysOfWeek().isEmpty()
+                            ? EnumSet.copyOf(rule.getDaysOfWeek())
+                            : EnumSet.of(start.getDayOfWeek());
+                    LocalDate week = start.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                    while (!week.isAfter(until) && dates.size() < count) {
+                        for (DayOfWeek day : days) { // EnumSet iterates Monday first
+                            LocalDate date = week.with(TemporalAdjusters.nextOrSame(day));
+                            if (!date.isBefore(start) && !date.isAfter(until) && dates.size() < count) {
+                                dates.add(date);
+                            }
+                        }
+                        week = week.plusWeeks(interval);
+                    }
+                }
+                case MONTHLY -> {
+                    int day = start.getDayOfMonth();
+                    for (YearMonth month = YearMonth.from(start);
+                            !month.atDay(1).isAfter(until) && dates.size() < count;
+                            month = month.plusMonths(interval)) {
+                        if (month.isValidDay(day) && !month.atDay(day).isAfter(until)) {
+                            dates.add(month.atDay(day));
+                        }
+                    }
+                }
+            }
+        } catch (DateTimeException e) {
+            // Stepping past LocalDate.MAX, e.g. a count-only rule that starts near the end of the calendar
+            throw new IllegalArgumentException("Recurrence is invalid: " + e.getMessage());
+        }
+        if (dates.size() > maxDates) {
+            throw new IllegalArgumentException("Series is invalid: more than " + maxDates + " dates");
+        }
+        return List.copyOf(dates);
+    }
+}
@@ -6,18 +6,98 @@ import dev.system.yatch.entity.SavedUser;
 import dev.system.yatch.enums.UserType;
 import dev.system.yatch.repository.SavedUserRepository;
 import dev.system.yatch.service.SavedUserService;
+import dev.system.yatch.service.SequenceService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
+@Slf4j
 @RequiredArgsConstructor
 public class SavedUserServiceImpl implements SavedUserService {
 
+    // ?fields= / view=summary on the saved-user list
+    static final FieldSet<SavedUser> FIELDS = new FieldSet<SavedUser>("userId", "name", "phone", "userType")
+            .field("id", SavedUser::getId)
+            .field("version", SavedUser::getVersion)
+            .field("userId", SavedUser::getUserId)
+            .field("name", SavedUser::getName)
+            .field("email", SavedUser::getEmail)
+            .field("phone", SavedUser::getPhone)
+            .field("userType", SavedUser::getUserType)
+            .field("isActive", SavedUser::isActive)
+            .field("notes", SavedUser::getNotes)
+            .field("createdAt", SavedUser::getCreatedAt)
+            .field("updatedAt", SavedUser::getUpdatedAt);
+
     private final SavedUserRepository savedUserRepository;
+    private final SequenceService sequenceService;
+    private final MongoTemplate mongoTemplate;
+    private final SavedUserTrie suggestions;
+
+    static final String USER_ID_PREFIX = "U-";
+    static final int MAX_ID_ATTEMPTS = 3;
+    static final int MAX_PATCH_ATTEMPTS = 3;
+    static final int MAX_SUGGESTIONS = 50;
+
+    // The unique userId index is built here rather than by auto-index-creation: legacy ids came
+    // from count(), so duplicated (or missing) ids are renumbered first; otherwise the index build
+    // fails and startup with it. Runs before the trie and search backfill read the users.
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void ensureUserIdIndex() {
+        List<Document> clashes = mongoTemplate.getCollection(mongoTemplate.getCollectionName(SavedUser.class))
+                .aggregate(List.of(
+                        new Document("$sort", new Document("_id", 1)),
+                        new Document("$group", new Document("_id", "$userId")
+                                .append("ids", new Document("$push", "$_id"))
+                                .append("count", new Document("$sum", 1))),
+                        new Document("$match", new Document("$or", List.of(
+                                new Document("count", new Document("$gt", 1)),
+                                new Document("_id", null))))))
+                .into(new ArrayList<>());
+        for (Document clash : clashes) {
+            List<?> ids = clash.getList("ids", Object.class);
+            // The oldest user keeps a duplicated id; users without one all get a new id
+            for (Object id : clash.get("_id") != null ? ids.subList(1, ids.size()) : ids) {
+                SavedUser user = mongoTemplate.findById(id, SavedUser.class);
+                if (user == null) {
+                    continue;
+                }
+                String previous = user.getUserId();
+                user.setUserId(nextUserId());
+                mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(user.getId())),
+                        Patches.bumpVersion(new Update()
+                                .set("userId", user.getUserId())
+                                .set("searchKeys", SearchKeys.forUser(user))),
+                        SavedUser.class);
+                log.warn("Renumbered saved user {} from {} to {}", user.getId(), previous, user.getUserId());
+            }
+        }
+        mongoTemplate.indexOps(SavedUser.class).createIndex(new Index()
+                .on("userId", Sort.Direction.ASC)
+                .unique()
+                .named(SavedUser.USER_ID_INDEX));
+    }
 
     @Override
     public List<SavedUserResponse> getAll() {
@@ -33,6 +113,26 @@ public class SavedUserServiceImpl implements SavedUserService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Map<String, Object>> getFields(UserType type, String fields, String view) {
+        Set<String> selected = FIELDS.select(fields, view);
+        Query query = new Query(type != null ? Criteria.where("userType").is(type) : new Criteria());
+        return mongoTemplate.find(FIELDS.project(query, selected), SavedUser.class).stream()
+                .map(user -> FIELDS.render(user, selected))
+                .collect(Collectors.toList());
+    }
+
+    // Served from the in-memory trie; no database query
+    @Override
+    public List<SavedUserResponse> suggest(String prefix, UserType type, int limit) {
+        if (limit < 1 || limit > MAX_SUGGESTIONS) {
+            throw new IllegalArgumentException("Limit is invalid (1-" + MAX_SUGGESTIONS + ")");
+        }
+        return suggestions.suggest(prefix, type, limit).stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public SavedUserResponse getById(String id) {
         SavedUser user = savedUserRepository.findById(id)
@@ -42,12 +142,8 @@ public class SavedUserServiceImpl implements SavedUserService {
 
     @Override
     public SavedUserResponse create(SavedUserRequest request) {
-        // Generate user ID
-        long count = savedUserRepository.count();
-        String userId = String.format("U-%04d", count + 1);
-
         SavedUser user = SavedUser.builder()
-                .userId(userId)
+                .userId(nextUserId())
                 .name(request.getName())
                 .email(request.getEmail())
                 .phone(request.getPhone())
@@ -57,38 +153,104 @@ public class SavedUserServiceImpl implements SavedUserService {
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build();
+        user.setSearchKeys(SearchKeys.forUser(user));
 
-        return mapToResponse(savedUserRepository.save(user));
+        // The unique userId index guards against ids handed out before the sequence existed
+        for (int attempt = 1;; attempt++) {
+            try {
+                SavedUser saved = savedUserRepository.save(user);
+                suggestions.put(saved);
+                return mapToResponse(saved);
+            } catch (DuplicateKeyException e) {
+                if (attempt >= MAX_ID_ATTEMPTS || e.getMessage() == null
+                        || !e.getMessage().contains(SavedUser.USER_ID_INDEX)) {
+                    throw e;
+                }
+                user.setUserId(nextUserId());
+                user.setSearchKeys(SearchKeys.forUser(user));
+                user.setVersion(null); // the failed insert already initialised it
+            }
+        }
     }
 
     @Override
-    public SavedUserResponse update(String id, SavedUserRequest request) {
-        SavedUser user = savedUserRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("User not found: " + id));
+    public SavedUserResponse update(String id, SavedUserRequest request, Long expectedVersion) {
+        boolean touchesSearch = request.getName() != null || request.getPhone() != null || request.getEmail() != null;
+        for (int attempt = 1;; attempt++) {
+            // Only the requested fields are written, in one findAndModify
+            Update update = new Update();
+            Patches.setIfPresent(update, "name", request.getName());
+            Patches.setIfPresent(update, "email", request.getEmail());
+            Patches.setIfPresent(update, "phone", request.getPhone());
+            Patches.setIfPresent(update, "userType", request.getUserType());
+            Patches.setIfPresent(update, "notes", request.getNotes());
+            Patches.bumpVersion(update.set("updatedAt", LocalDateTime.now()));
 
-        if (request.getName() != null)
-            user.setName(request.getName());
-        if (request.getEmail() != null)
-            user.setEmail(request.getEmail());
-        if (request.getPhone() != null)
-            user.setPhone(request.getPhone());
-        if (request.getUserType() != null)
-            user.setUserType(request.getUserType());
-        if (request.getNotes() != null)
-            user.setNotes(request.getNotes());
-
-        user.setUpdatedAt(LocalDateTime.now());
-        return mapToResponse(savedUserRepository.save(user));
+            // searchKeys are rebuilt from the stored user; the write is pinned to the version read
+            Long guardVersion = expectedVersion;
+            if (touchesSearch) {
+                SavedUser stored = savedUserRepository.findById(id)
+                        .orElseThrow(() -> new RuntimeException("User not found: " + id));
+                if (!Patches.matches(expectedVersion, stored.getVersion())) {
+                    throw Patches.versionMismatch("User", id);
+                }
+                guardVersion = Patches.versionOf(stored.getVersion());
+                update.set("searchKeys", SearchKeys.forUser(SavedUser.builder()
+                        .userId(stored.getUserId())
+                        .name(request.getName() != null ? request.getName() : stored.getName())
+                        .email(request.getEmail() != null ? request.getEmail() : stored.getEmail())
+                        .phone(request.getPhone() != null ? request.getPhone() : stored.getPhone())
+                        .build()));
+            }
+
+            SavedUser user = mongoTemplate.findAndModify(Patches.byId(id, guardVersion), update,
+                    Patches.returnNew(), SavedUser.class);
+            if (user != null) {
+                suggestions.put(user);
+                return mapToResponse(user);
+            }
+            if (guardVersion != null && savedUserRepository.existsById(id)) {
+                // Only a concurrent edit of an unconditional request is retried
+                if (expectedVersion != null || attempt >= MAX_PATCH_ATTEMPTS) {
+                    throw Patches.versionMismatch("User", id);
+                }
+                continue;
+            }
+            throw new RuntimeException("User not found: " + id);
+        }
     }
 
     @Override
-    public void delete(String id) {
-        savedUserRepository.deleteById(id);
+    public void delete(String id, Long expectedVersion) {
+        if (mongoTemplate.remove(Patches.byId(id, expectedVersion), SavedUser.class).getDeletedCount() == 0
+                && expectedVersion != null && savedUserRepository.existsById(id)) {
+            throw Patches.versionMismatch("User", id);
+        }
+        suggestions.remove(id);
+    }
+
+    // "U-<seq>" from the shared sequence; the first use starts after the highest existing number
+    private String nextUserId() {
+        long seq = sequenceService.next("saved-user", this::highestUserNumber);
+        return String.format(USER_ID_PREFIX + "%04d", seq);
+    }
+
+    // Legacy ids were derived from count() while deletes were allowed, so numbers above the count exist
+    private long highestUserNumber() {
+        Document max = mongoTemplate.getCollection(mongoTemplate.getCollectionName(SavedUser.class)).aggregate(List.of(
+                new Document("$match", new Document("userId",
+                        new Document("$regex", "^" + USER_ID_PREFIX + "\\d{1,18}$"))),
+                new Document("$group", new Document("_id", null).append("max", new Document("$max",
+                        new Document("$toLong", new Document("$substrCP",
+                                List.of("$userId", USER_ID_PREFIX.length(), 18))))))))
+                .first();
+        return max != null ? ((Number) max.get("max")).longValue() : 0;
     }
 
     private SavedUserResponse mapToResponse(SavedUser user) {
         return SavedUserResponse.builder()
                 .id(user.getId())
+                .version(user.getVersion())
                 .userId(user.getUserId())
                 .name(user.getName())
                 .email(user.getEmail())
@@ -0,0 +1,228 @@
+package dev.system.yatch.service.impl;
+
+import dev.system.yatch.entity.SavedUser;
+import dev.system.yatch.enums.UserType;
+import dev.system.yatch.repository.SavedUserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory prefix trie of saved users for type-ahead (/api/saved-users/suggest).
+ * Terms: the normalized full name and each of its words, phone digits (and local 0 form), userId.
+ * Built at startup and kept current by SavedUserServiceImpl; the periodic rebuild picks up
+ * writes made on other nodes. Entities returned here are shared - read them, never mutate them.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class SavedUserTrie {
+
+    private final SavedUserRepository savedUserRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Node root = new Node();
+    private Map<String, SavedUser> users = new HashMap<>();
+    // Writes made while a rebuild reads the collection, replayed onto the new trie (null value = removed)
+    private Map<String, SavedUser> pending;
+
+    // Children in character order, so a depth-first walk yields terms alphabetically
+    private static final class Node {
+        final TreeMap<Character, Node> children = new TreeMap<>();
+        final Set<String> ids = new LinkedHashSet<>(); // users with a term ending here
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        rebuild();
+        log.info("Indexed {} saved users for suggestions", size());
+    }
+
+    @Scheduled(fixedDelayString = "${yatch.suggest.refresh-interval:PT5M}",
+            initialDelayString = "${yatch.suggest.refresh-interval:PT5M}")
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pending = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        // Built off-lock, then swapped in
+        Node fresh = new Node();
+        Map<String, SavedUser> byId = new HashMap<>();
+        for (SavedUser user : savedUserRepository.findAll()) {
+            add(fresh, byId, user);
+        }
+        lock.writeLock().lock();
+        try {
+            pending.forEach((id, user) -> {
+                unindex(fresh, byId, id);
+                if (user != null) {
+                    add(fresh, byId, user);
+                }
+            });
+            pending = null;
+            root = fresh;
+            users = byId;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void put(SavedUser user) {
+        lock.writeLock().lock();
+        try {
+            unindex(root, users, user.getId());
+            add(root, users, user);
+            if (pending != null) {
+                pending.put(user.getId(), user);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String id) {
+        lock.writeLock().lock();
+        try {
+            unindex(root, users, id);
+            if (pending != null) {
+                pending.put(id, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Users with a term starting with prefix, alphabetically by that term; type is optional
+    public List<SavedUser> suggest(String prefix, UserType type, int limit) {
+        Set<String> found = new LinkedHashSet<>();
+        lock.readLock().lock();
+        try {
+            for (String key : prefixes(prefix)) {
+                Node node = find(key);
+                if (node != null) {
+                    collect(node, type, limit, found);
+                }
+            }
+            List<SavedUser> matches = new ArrayList<>(found.size());
+            found.forEach(id -> matches.add(users.get(id)));
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return users.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ===== HELPER =====
+    static Set<String> terms(SavedUser user) {
+        Set<String> terms = new LinkedHashSet<>();
+        List<String> words = SearchKeys.words(user.getName());
+        if (!words.isEmpty()) {
+            terms.add(String.join(" ", words));
+            terms.addAll(words);
+        }
+        terms.addAll(SearchKeys.phoneForms(user.getPhone()));
+        if (user.getUserId() != null) {
+            terms.add(SearchKeys.normalize(user.getUserId()));
+            terms.addAll(SearchKeys.words(user.getUserId())); // "0001" as well as "u-0001"
+        }
+        return terms;
+    }
+
+    // Phone-like input is matched as digits, "+66 8..." also as "08..."
+    static List<String> prefixes(String prefix) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        if (prefix.matches("[\\d\\s+().-]+")) {
+            String digits = prefix.replaceAll("\\D", "");
+            if (digits.isEmpty()) {
+                return List.of();
+            }
+            return digits.startsWith("66") && digits.length() > 2
+                    ? List.of(digits, "0" + digits.substring(2))
+                    : List.of(digits);
+        }
+        return List.of(String.join(" ", SearchKeys.words(prefix)));
+    }
+
+    private static void add(Node root, Map<String, SavedUser> users, SavedUser user) {
+        users.put(user.getId(), user);
+        for (String term : terms(user)) {
+            Node node = root;
+            for (int i = 0; i < term.length(); i++) {
+                node = node.children.computeIfAbsent(term.charAt(i), c -> new Node());
+            }
+            node.ids.add(user.getId());
+        }
+    }
+
+    private static void unindex(Node root, Map<String, SavedUser> users, String id) {
+        SavedUser previous = users.remove(id);
+        if (previous != null) {
+            terms(previous).forEach(term -> unlink(root, term, 0, id));
+        }
+    }
+
+    // Drops id from the term's node and prunes nodes left empty; true when node itself is now empty
+    private static boolean unlink(Node node, String term, int depth, String id) {
+        if (depth == term.length()) {
+            node.ids.remove(id);
+        } else {
+            Node child = node.children.get(term.charAt(depth));
+            if (child != null && unlink(child, term, depth + 1, id)) {
+                node.children.remove(term.charAt(depth));
+            }
+        }
+        return node.ids.isEmpty() && node.children.isEmpty();
+    }
+
+    private Node find(String prefix) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+        return node;
+    }
+
+    // Depth-first, stopping as soon as limit users are found
+    private void collect(Node node, UserType type, int limit, Set<String> found) {
+        for (String id : node.ids) {
+            if (found.size() >= limit) {
+                return;
+            }
+            if (type == null || users.get(id).getUserType() == type) {
+                found.add(id);
+            }
+        }
+        for (Node child : node.children.values()) {
+            if (found.size() >= limit) {
+                return;
+            }
+            collect(child, type, limit, found);
+        }
+    }
+}
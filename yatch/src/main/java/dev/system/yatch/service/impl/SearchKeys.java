@@ -0,0 +1,139 @@
+package dev.system.yatch.service.impl;
+
+import dev.system.yatch.entity.Booking;
+import dev.system.yatch.entity.SavedUser;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Normalized search keys stored on bookings and saved users (multikey "searchKeys" index).
+ * Every value is lower-cased with Latin accents folded; Thai marks are kept. Keys are typed:
+ * "w:" whole word, "p:" word prefix (2..15 chars), "g:" character trigram (infix / typo match).
+ * Phones are indexed digits-only, with a local 0 form for +66 numbers.
+ */
+final class SearchKeys {
+
+    static final int MIN_PREFIX = 2;
+    static final int MAX_PREFIX = 15;
+    static final int GRAM = 3;
+
+    private static final Pattern LATIN_MARKS = Pattern.compile("\\p{InCombiningDiacriticalMarks}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}\\p{M}]+");
+
+    private SearchKeys() {
+    }
+
+    static List<String> forBooking(Booking booking) {
+        Set<String> keys = new LinkedHashSet<>();
+        addText(keys, booking.getCustomerName());
+        addText(keys, booking.getEmail());
+        addText(keys, booking.getBookingId());
+        addPhone(keys, booking.getPhone());
+        return new ArrayList<>(keys);
+    }
+
+    static List<String> forUser(SavedUser user) {
+        Set<String> keys = new LinkedHashSet<>();
+        addText(keys, user.getName());
+        addText(keys, user.getEmail());
+        addText(keys, user.getUserId());
+        addPhone(keys, user.getPhone());
+        return new ArrayList<>(keys);
+    }
+
+    /**
+     * Keys for a query string: every word must match as a prefix (strict phase),
+     * trigrams feed the fuzzy phase, whole words add to the rank.
+     */
+    record Query(List<String> words, List<String> prefixes, List<String> grams) {
+        boolean isEmpty() {
+            return prefixes.isEmpty();
+        }
+    }
+
+    static Query query(String text) {
+        Set<String> words = new LinkedHashSet<>();
+        Set<String> prefixes = new LinkedHashSet<>();
+        Set<String> grams = new LinkedHashSet<>();
+
+        String digits = text != null ? text.replaceAll("\\D", "") : "";
+        boolean phoneLike = digits.length() >= GRAM && text.matches("[\\d\\s+().-]+");
+        List<String> tokens = phoneLike ? List.of(localPhone(digits)) : words(text);
+
+        for (String word : tokens) {
+            if (word.length() < MIN_PREFIX) {
+                continue;
+            }
+            words.add("w:" + word);
+            prefixes.add("p:" + word.substring(0, Math.min(word.length(), MAX_PREFIX)));
+            grams(word).forEach(gram -> grams.add("g:" + gram));
+        }
+        // Longest prefix first: the most selective key drives the index scan of $all
+        List<String> ordered = prefixes.stream().sorted(Comparator.comparingInt(String::length).reversed()).toList();
+        return new Query(List.copyOf(words), ordered, List.copyOf(grams));
+    }
+
+    static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFKD);
+        String folded = LATIN_MARKS.matcher(decomposed).replaceAll("");
+        return Normalizer.normalize(folded, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    // Digits-only phone and its local form; empty when too short to search by
+    static Set<String> phoneForms(String phone) {
+        String digits = phone != null ? phone.replaceAll("\\D", "") : "";
+        return digits.length() >= GRAM ? new LinkedHashSet<>(List.of(digits, localPhone(digits))) : Set.of();
+    }
+
+    // Normalized words, split on anything that is not a letter, digit or (Thai) mark
+    static List<String> words(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> words = new ArrayList<>();
+        for (String word : SEPARATORS.split(normalize(text))) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    // ===== HELPER =====
+    private static void addText(Set<String> keys, String text) {
+        words(text).forEach(word -> addWord(keys, word));
+    }
+
+    private static void addPhone(Set<String> keys, String phone) {
+        phoneForms(phone).forEach(digits -> addWord(keys, digits));
+    }
+
+    private static void addWord(Set<String> keys, String word) {
+        keys.add("w:" + word);
+        for (int end = MIN_PREFIX; end <= Math.min(word.length(), MAX_PREFIX); end++) {
+            keys.add("p:" + word.substring(0, end));
+        }
+        grams(word).forEach(gram -> keys.add("g:" + gram));
+    }
+
+    // +66 8x... is dialled locally as 08x...
+    private static String localPhone(String digits) {
+        return digits.startsWith("66") && digits.length() == 11 ? "0" + digits.substring(2) : digits;
+    }
+
+    private static List<String> grams(String word) {
+        List<String> grams = new ArrayList<>();
+        int[] codePoints = word.codePoints().toArray();
+        for (int i = 0; i + GRAM <= codePoints.length; i++) {
+            grams.add(new String(codePoints, i, GRAM));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,229 @@
+package dev.system.yatch.service.impl;
+
+import com.mongodb.client.MongoCollection;
+import dev.system.yatch.dto.response.SearchHit;
+import dev.system.yatch.dto.response.SearchResponse;
+import dev.system.yatch.entity.Booking;
+import dev.system.yatch.entity.SavedUser;
+import dev.system.yatch.enums.SearchScope;
+import dev.system.yatch.service.SearchService;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Search over the normalized searchKeys of bookings (hot and archived) and saved users.
+ * Strict phase: every query word must be a stored word prefix ($all on the multikey index).
+ * Fuzzy phase, only while the page is not full: documents sharing most of the query's trigrams.
+ * Hits are ranked in Mongo by matched whole words, prefixes and trigrams.
+ */
+@Service
+@Slf4j
+public class SearchServiceImpl implements SearchService {
+
+    static final int MAX_SIZE = 100;
+    // Deepest reachable hit; every page re-ranks the hits before it
+    static final int MAX_DEPTH = 1_000;
+    // Prefix phase scores at most this many matches; short prefixes like "an" would otherwise sort the whole collection
+    static final int STRICT_CANDIDATES = 5_000;
+    // Fuzzy phase scores at most this many candidates, keeping those that share enough trigrams
+    static final int FUZZY_CANDIDATES = 5_000;
+    static final double FUZZY_MIN_OVERLAP = 0.6;
+    static final int BACKFILL_BATCH = 500;
+
+    private static final String KEYS = "searchKeys";
+    private static final String SCORE = "score";
+    private static final String GRAM_HITS = "gramHits";
+
+    // A searchable collection: how its hits are rendered and ordered on equal score
+    private record Target<T>(String type, Class<T> entity, String collection, FieldSet<T> fields,
+            Document order, Function<T, String> idOf, Function<T, List<String>> keysOf, List<String> sources) {
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final Target<Booking> bookings;
+    private final Target<Booking> archivedBookings;
+    private final Target<SavedUser> users;
+
+    public SearchServiceImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+        List<String> bookingSources = List.of("bookingId", "customerName", "phone", "email");
+        this.bookings = new Target<>(SearchHit.BOOKING, Booking.class, mongoTemplate.getCollectionName(Booking.class),
+                BookingRules.FIELDS, new Document("serviceDate", -1), Booking::getId, SearchKeys::forBooking,
+                bookingSources);
+        this.archivedBookings = new Target<>(SearchHit.BOOKING, Booking.class, Booking.ARCHIVE_COLLECTION,
+                BookingRules.FIELDS, new Document("serviceDate", -1), Booking::getId, SearchKeys::forBooking,
+                bookingSources);
+        this.users = new Target<>(SearchHit.SAVED_USER, SavedUser.class,
+                mongoTemplate.getCollectionName(SavedUser.class), SavedUserServiceImpl.FIELDS,
+                new Document("name", 1), SavedUser::getId, SearchKeys::forUser,
+                List.of("userId", "name", "phone", "email"));
+    }
+
+    // Documents written before searchKeys existed (or seeded directly) get them once
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        for (Target<?> target : List.of(bookings, archivedBookings, users)) {
+            int updated = backfill(target);
+            if (updated > 0) {
+                log.info("Added search keys to {} documents in {}", updated, target.collection());
+            }
+        }
+    }
+
+    @Override
+    public SearchResponse search(String q, SearchScope scope, int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_SIZE || (page + 1) * size > MAX_DEPTH) {
+            throw new IllegalArgumentException(
+                    "Page is invalid (size 1-" + MAX_SIZE + ", at most " + MAX_DEPTH + " hits deep)");
+        }
+        SearchKeys.Query keys = SearchKeys.query(q);
+        if (keys.isEmpty()) {
+            throw new IllegalArgumentException("Search query is invalid: at least "
+                    + SearchKeys.MIN_PREFIX + " letters or digits are required");
+        }
+
+        // One extra hit tells whether another page exists
+        int limit = (page + 1) * size + 1;
+        List<SearchHit> hits = new ArrayList<>();
+        if (scope != SearchScope.USERS) {
+            hits.addAll(search(bookings, keys, limit));
+            hits.addAll(search(archivedBookings, keys, limit));
+        }
+        if (scope != SearchScope.BOOKINGS) {
+            hits.addAll(search(users, keys, limit));
+        }
+        // A booking being archived sits in both tiers for a moment
+        Set<String> seen = new HashSet<>();
+        hits.removeIf(hit -> !seen.add(hit.getType() + ":" + hit.getId()));
+
+        // Prefix matches before fuzzy ones, then by score; the sort is stable, so ties keep collection order
+        hits.sort(Comparator.comparing(SearchHit::isFuzzy)
+                .thenComparing(SearchHit::getScore, Comparator.reverseOrder()));
+        int from = Math.min(page * size, hits.size());
+        int to = Math.min(from + size, hits.size());
+        return SearchResponse.builder()
+                .query(q)
+                .hits(new ArrayList<>(hits.subList(from, to)))
+                .page(page)
+                .size(size)
+                .hasMore(hits.size() > (page + 1) * size)
+                .build();
+    }
+
+    // ===== HELPER =====
+    private <T> List<SearchHit> search(Target<T> target, SearchKeys.Query keys, int limit) {
+        MongoCollection<Document> collection = mongoTemplate.getCollection(target.collection());
+        Set<String> selected = target.fields().select(null, FieldSet.SUMMARY_VIEW);
+        Document sort = new Document(SCORE, -1);
+        sort.putAll(target.order());
+        sort.append("_id", 1);
+
+        List<Document> strict = collection.aggregate(List.of(
+                new Document("$match", new Document(KEYS, new Document("$all", keys.prefixes()))),
+                new Document("$limit", STRICT_CANDIDATES),
+                new Document("$project", projection(target, selected, keys)),
+                new Document("$sort", sort),
+                new Document("$limit", limit)))
+                .into(new ArrayList<>());
+        List<SearchHit> hits = toHits(target, selected, strict, false);
+        if (strict.size() >= limit || keys.grams().isEmpty()) {
+            return hits;
+        }
+
+        List<Object> found = strict.stream().map(doc -> doc.get("_id")).toList();
+        int minGrams = Math.max(1, (int) Math.ceil(keys.grams().size() * FUZZY_MIN_OVERLAP));
+        List<Document> fuzzy = collection.aggregate(List.of(
+                new Document("$match", new Document(KEYS, new Document("$in", keys.grams()))
+                        .append("_id", new Document("$nin", found))),
+                new Document("$limit", FUZZY_CANDIDATES),
+                new Document("$project", projection(target, selected, keys)
+                        .append(GRAM_HITS, matched(keys.grams()))),
+                new Document("$match", new Document(GRAM_HITS, new Document("$gte", minGrams))),
+                new Document("$sort", sort),
+                new Document("$limit", limit - strict.size())))
+                .into(new ArrayList<>());
+        hits.addAll(toHits(target, selected, fuzzy, true));
+        return hits;
+    }
+
+    // Summary fields plus the rank: whole words 3, prefixes 2, trigrams 1
+    private Document projection(Target<?> target, Set<String> selected, SearchKeys.Query keys) {
+        Document projection = new Document();
+        selected.stream().filter(field -> !"id".equals(field)).forEach(field -> projection.append(field, 1));
+        target.order().keySet().forEach(field -> projection.append(field, 1));
+        projection.append(SCORE, new Document("$add", List.of(
+                new Document("$multiply", List.of(3, matched(keys.words()))),
+                new Document("$multiply", List.of(2, matched(keys.prefixes()))),
+                matched(keys.grams()))));
+        return projection;
+    }
+
+    private Document matched(List<String> keys) {
+        return new Document("$size", new Document("$setIntersection", List.of("$" + KEYS, keys)));
+    }
+
+    private <T> List<SearchHit> toHits(Target<T> target, Set<String> selected, List<Document> docs, boolean fuzzy) {
+        List<SearchHit> hits = new ArrayList<>(docs.size());
+        for (Document doc : docs) {
+            T entity = mongoTemplate.getConverter().read(target.entity(), doc);
+            hits.add(SearchHit.builder()
+                    .type(target.type())
+                    .id(target.idOf().apply(entity))
+                    .score(((Number) doc.get(SCORE)).intValue())
+                    .fuzzy(fuzzy)
+                    .fields(target.fields().render(entity, selected))
+                    .build());
+        }
+        return hits;
+    }
+
+    // Guarded on the keys still missing, so a concurrent write that set them wins
+    private <T> int backfill(Target<T> target) {
+        Query missing = new Query(Criteria.where(KEYS).exists(false));
+        target.sources().forEach(missing.fields()::include);
+
+        int updated = 0;
+        int pending = 0;
+        BulkOperations bulk = null;
+        try (Stream<T> docs = mongoTemplate.stream(missing, target.entity(), target.collection())) {
+            Iterator<T> it = docs.iterator();
+            while (it.hasNext()) {
+                T doc = it.next();
+                if (bulk == null) {
+                    bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, target.entity(),
+                            target.collection());
+                }
+                bulk.updateOne(Query.query(Criteria.where("id").is(target.idOf().apply(doc)).and(KEYS).exists(false)),
+                        new Update().set(KEYS, target.keysOf().apply(doc)));
+                if (++pending == BACKFILL_BATCH) {
+                    bulk.execute();
+                    updated += pending;
+                    pending = 0;
+                    bulk = null;
+                }
+            }
+        }
+        if (bulk != null) {
+            bulk.execute();
+            updated += pending;
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,80 @@
+package dev.system.yatch.service.impl;
+
+import dev.system.yatch.entity.Counter;
+import dev.system.yatch.service.SequenceService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Hi/lo allocator over the counters collection.
+ * Each node leases a block of numbers with one atomic $inc and hands them out
+ * from memory, so only one in every block-size calls touches the database.
+ * Numbers left in a block when the node stops are skipped.
+ */
+@Service
+@Slf4j
+public class SequenceServiceImpl implements SequenceService {
+
+    private final MongoTemplate mongoTemplate;
+    private final int blockSize;
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    public SequenceServiceImpl(MongoTemplate mongoTemplate, @Value("${yatch.ids.block-size:50}") int blockSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.blockSize = Math.max(1, blockSize);
+    }
+
+    private static final class Block {
+        private final ReentrantLock lock = new ReentrantLock();
+        private long next = 1;
+        private long max = 0; // Empty until the first lease
+    }
+
+    @Override
+    public long next(String name, LongSupplier floor) {
+        Block block = blocks.computeIfAbsent(name, k -> new Block());
+        // A lock rather than synchronized: a lease waits on Mongo, which would pin a virtual thread's carrier
+        block.lock.lock();
+        try {
+            if (block.next > block.max) {
+                long hi = lease(name, floor);
+                block.next = hi - blockSize + 1;
+                block.max = hi;
+            }
+            return block.next++;
+        } finally {
+            block.lock.unlock();
+        }
+    }
+
+    // ===== HELPER =====
+    // Atomically reserves (hi - blockSize, hi] for this node
+    private long lease(String name, LongSupplier floor) {
+        Query query = new Query(Criteria.where("id").is(name));
+        Update inc = new Update().inc("value", blockSize);
+
+        Counter counter = mongoTemplate.findAndModify(query, inc,
+                FindAndModifyOptions.options().returnNew(true), Counter.class);
+        if (counter == null) {
+            // First use: start after existing data. $max keeps concurrent initializers idempotent.
+            long start = floor.getAsLong();
+            mongoTemplate.upsert(query, new Update().max("value", start), Counter.class);
+            log.info("Initialized sequence {} at {}", name, start);
+
+            counter = mongoTemplate.findAndModify(query, inc,
+                    FindAndModifyOptions.options().returnNew(true), Counter.class);
+        }
+        return counter.getValue();
+    }
+}
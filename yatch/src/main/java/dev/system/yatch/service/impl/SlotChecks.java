@@ -0,0 +1,29 @@
+package dev.system.yatch.service.impl;
+
+import dev.system.yatch.repository.BookingRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Slot pre-check for the blocking services. The in-memory availability index answers the
+ * common case (slot free) without I/O; a hit may be stale on a multi-node deployment, so it is
+ * confirmed in storage before the request is rejected. Slot holds are HELD bookings, so they
+ * go through the same index and storage check. The unique slot index still decides races.
+ */
+@Component
+@RequiredArgsConstructor
+public class SlotChecks {
+
+    private final BookingRules rules;
+    private final BookingRepository bookingRepository;
+
+    // excludeBookingId: the booking re-validating its own slot, or the hold being converted into it
+    public void validate(String yachtId, LocalDate date, String slotId, String excludeBookingId) {
+        if (rules.mayBeOccupied(yachtId, date, slotId, excludeBookingId)
+                && bookingRepository.existsActiveSlot(yachtId, date, slotId, excludeBookingId)) {
+            throw rules.slotConflict(yachtId);
+        }
+    }
+}
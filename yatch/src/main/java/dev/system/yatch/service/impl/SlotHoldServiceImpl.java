@@ -0,0 +1,246 @@
+package dev.system.yatch.service.impl;
+
+import dev.system.yatch.dto.request.BookingRequest;
+import dev.system.yatch.dto.request.HoldRequest;
+import dev.system.yatch.dto.response.HoldResponse;
+import dev.system.yatch.entity.Booking;
+import dev.system.yatch.entity.Yacht;
+import dev.system.yatch.enums.BookingStatus;
+import dev.system.yatch.service.AvailabilityService;
+import dev.system.yatch.service.SlotHoldService;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Slot holds are HELD rows in bookings, so the unique slot index that keeps two bookings off
+ * one slot also keeps a booking and a hold apart, on every node. A hold turns into a booking by
+ * replacing its row in place (same _id), so the slot is never free in between. SlotHolds tracks
+ * the live holds to delete each one as soon as it lapses; the sparse TTL index is the fallback.
+ */
+@Service
+public class SlotHoldServiceImpl implements SlotHoldService {
+
+    // bookingId of a hold row; the unique bookingId index needs one, and real ids never start with it
+    static final String HOLD_ID_PREFIX = "HOLD-";
+
+    private final MongoTemplate mongoTemplate;
+    private final YachtCatalog yachtCatalog;
+    private final BookingRules rules;
+    private final SlotHolds holds;
+    private final SlotChecks slotChecks;
+    private final AvailabilityService availabilityService;
+    private final int defaultMinutes;
+    private final int maxMinutes;
+
+    public SlotHoldServiceImpl(MongoTemplate mongoTemplate, YachtCatalog yachtCatalog, BookingRules rules,
+            SlotHolds holds, SlotChecks slotChecks, AvailabilityService availabilityService,
+            @Value("${yatch.holds.default-minutes:10}") int defaultMinutes,
+            @Value("${yatch.holds.max-minutes:30}") int maxMinutes) {
+        this.mongoTemplate = mongoTemplate;
+        this.yachtCatalog = yachtCatalog;
+        this.rules = rules;
+        this.holds = holds;
+        this.slotChecks = slotChecks;
+        this.availabilityService = availabilityService;
+        this.defaultMinutes = defaultMinutes;
+        this.maxMinutes = maxMinutes;
+    }
+
+    // The unique slot index was renamed when HELD joined its partial filter; the old one ignores
+    // holds and would report slot conflicts under a name the services do not recognise
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void dropLegacySlotIndex() {
+        IndexOperations indexes = mongoTemplate.indexOps(Booking.class);
+        if (indexes.getIndexInfo().stream().anyMatch(index -> Booking.LEGACY_ACTIVE_SLOT_INDEX.equals(index.getName()))) {
+            indexes.dropIndex(Booking.LEGACY_ACTIVE_SLOT_INDEX);
+        }
+    }
+
+    // Holds placed on other nodes, so this node reclaims them too and its availability index sees them
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${yatch.holds.sync-interval:PT5S}", fixedDelayString = "${yatch.holds.sync-interval:PT5S}")
+    public void sync() {
+        LocalDateTime readAt = LocalDateTime.now();
+        List<Booking> live = mongoTemplate.find(Query.query(Criteria.where("status").is(BookingStatus.HELD)
+                .and("holdExpiresAt").gt(readAt)), Booking.class);
+        live.forEach(availabilityService::track);
+        untrackGone(holds.sync(live, readAt));
+    }
+
+    @Scheduled(fixedRate = SlotHolds.TICK_MILLIS)
+    public void reclaimExpired() {
+        List<Booking> expired = holds.expire(System.currentTimeMillis());
+        if (expired.isEmpty()) {
+            return;
+        }
+        mongoTemplate.remove(Query.query(Criteria.where("id").in(expired.stream().map(Booking::getId).toList())
+                .and("status").is(BookingStatus.HELD)
+                .and("holdExpiresAt").lte(LocalDateTime.now())), Booking.class);
+        untrackGone(expired);
+    }
+
+    @Override
+    public HoldResponse hold(HoldRequest request) {
+        if (request == null || request.getYachtId() == null || request.getSlotId() == null
+                || request.getServiceDate() == null) {
+            throw new IllegalArgumentException("yachtId, slotId and serviceDate are required");
+        }
+        int minutes = request.getMinutes() != null ? request.getMinutes() : defaultMinutes;
+        if (minutes < 1 || minutes > maxMinutes) {
+            throw new IllegalArgumentException("Hold minutes is invalid (1-" + maxMinutes + ")");
+        }
+
+        // Same checks a booking gets: the yacht offers the slot and nobody has booked or held it
+        Yacht yacht = yachtCatalog.findById(request.getYachtId());
+        if (yacht == null) {
+            throw rules.yachtNotFound();
+        }
+        Booking hold = Booking.builder()
+                .yachtId(request.getYachtId())
+                .yachtName(yacht.getName())
+                .serviceDate(request.getServiceDate())
+                .slotId(request.getSlotId())
+                .build();
+        rules.enrichSlotDetails(hold, yacht);
+        slotChecks.validate(request.getYachtId(), request.getServiceDate(), request.getSlotId(), null);
+
+        // Millisecond precision, as stored, so the in-memory copy matches what the sync reads back
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        hold.setId(new ObjectId().toHexString());
+        hold.setBookingId(HOLD_ID_PREFIX + hold.getId());
+        hold.setStatus(BookingStatus.HELD);
+        hold.setHoldExpiresAt(now.plusMinutes(minutes));
+        hold.setCreatedAt(now);
+        hold.setUpdatedAt(now);
+        Booking saved = insert(hold);
+        holds.put(saved);
+        availabilityService.track(saved);
+
+        return HoldResponse.builder()
+                .holdId(saved.getId())
+                .yachtId(saved.getYachtId())
+                .slotId(saved.getSlotId())
+                .serviceDate(saved.getServiceDate())
+                .expiresAt(saved.getHoldExpiresAt())
+                .build();
+    }
+
+    @Override
+    public void release(String holdId) {
+        Booking removed = mongoTemplate.findAndRemove(Query.query(Criteria.where("id").is(holdId)
+                .and("status").is(BookingStatus.HELD)), Booking.class);
+        if (removed != null) {
+            holds.remove(holdId);
+            availabilityService.untrack(holdId);
+        }
+    }
+
+    @Override
+    public Booking claim(BookingRequest request) {
+        String holdId = request.getHoldId();
+        Booking hold = mongoTemplate.findOne(Query.query(Criteria.where("id").is(holdId)
+                .and("status").is(BookingStatus.HELD)), Booking.class);
+        if (hold == null || !hold.getHoldExpiresAt().isAfter(LocalDateTime.now())) {
+            throw holdNotFound(holdId);
+        }
+
+        if (request.getYachtId() == null)
+            request.setYachtId(hold.getYachtId());
+        if (request.getSlotId() == null)
+            request.setSlotId(hold.getSlotId());
+        if (request.getServiceDate() == null)
+            request.setServiceDate(hold.getServiceDate());
+        if (!request.getYachtId().equals(hold.getYachtId()) || !request.getSlotId().equals(hold.getSlotId())
+                || !Objects.equals(request.getServiceDate(), hold.getServiceDate())) {
+            throw new IllegalArgumentException("Booking slot is invalid: hold " + holdId + " is for another slot");
+        }
+        return hold;
+    }
+
+    @Override
+    public Booking convert(Booking hold, Booking booking) {
+        booking.setId(hold.getId());
+        booking.setVersion(0L); // A new booking, as if inserted
+        Booking saved = mongoTemplate.findAndReplace(Query.query(Criteria.where("id").is(hold.getId())
+                        .and("status").is(BookingStatus.HELD)
+                        .and("holdExpiresAt").gt(LocalDateTime.now())),
+                booking, FindAndReplaceOptions.options().returnNew());
+        if (saved == null) {
+            throw holdNotFound(hold.getId());
+        }
+        holds.remove(hold.getId());
+        return saved;
+    }
+
+    @Override
+    public boolean releaseExpired(String yachtId, LocalDate serviceDate, String slotId) {
+        Booking lapsed = mongoTemplate.findAndRemove(Query.query(Criteria.where("yachtId").is(yachtId)
+                .and("serviceDate").is(serviceDate)
+                .and("slotId").is(slotId)
+                .and("status").is(BookingStatus.HELD)
+                .and("holdExpiresAt").lte(LocalDateTime.now())), Booking.class);
+        if (lapsed == null) {
+            return false;
+        }
+        holds.remove(lapsed.getId());
+        availabilityService.untrack(lapsed.getId());
+        return true;
+    }
+
+    // ===== HELPER =====
+    // The unique slot index rejects the hold on a booked or held slot; a lapsed hold that has not
+    // been reclaimed yet is removed and the insert retried once
+    private Booking insert(Booking hold) {
+        for (int attempt = 1;; attempt++) {
+            try {
+                return mongoTemplate.insert(hold);
+            } catch (DuplicateKeyException e) {
+                if (e.getMessage() == null || !e.getMessage().contains(Booking.ACTIVE_SLOT_INDEX)) {
+                    throw e;
+                }
+                if (attempt >= 2 || !releaseExpired(hold.getYachtId(), hold.getServiceDate(), hold.getSlotId())) {
+                    throw rules.slotConflict(hold.getYachtId());
+                }
+                hold.setVersion(null); // the failed insert already initialised it
+            }
+        }
+    }
+
+    // Stops tracking holds that are gone; one converted into a booking keeps its _id and its slot
+    private void untrackGone(List<Booking> dropped) {
+        if (dropped.isEmpty()) {
+            return;
+        }
+        List<String> ids = dropped.stream().map(Booking::getId).toList();
+        Query booked = Query.query(Criteria.where("id").in(ids).and("status").ne(BookingStatus.HELD));
+        booked.fields().include("id");
+        Set<String> converted = new HashSet<>();
+        mongoTemplate.find(booked, Booking.class).forEach(b -> converted.add(b.getId()));
+        ids.stream().filter(id -> !converted.contains(id)).forEach(availabilityService::untrack);
+    }
+
+    private static RuntimeException holdNotFound(String holdId) {
+        return new RuntimeException("Hold not found or expired: " + holdId);
+    }
+}
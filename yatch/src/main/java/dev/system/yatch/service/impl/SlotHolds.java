@@ -0,0 +1,75 @@
+package dev.system.yatch.service.impl;
+
+import dev.system.yatch.entity.Booking;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory view of live slot holds (HELD rows in bookings), kept so expired holds are reclaimed
+ * promptly. A HELD row occupies its slot in the unique slot index until it is deleted, so the
+ * slot checks never consult this view; it only decides when to delete. A timer wheel hands over
+ * the holds whose deadline passed each tick, without scanning the rest. Holds placed on other
+ * nodes arrive with the periodic sync, so any live node reclaims any hold; Mongo's TTL monitor
+ * (about once a minute) is the fallback when none is running.
+ */
+@Component
+public class SlotHolds {
+
+    static final long TICK_MILLIS = 1_000;
+    static final int WHEEL_SIZE = 1_024; // ~17 minutes per revolution
+
+    private final Map<String, Booking> byId = new ConcurrentHashMap<>();
+    private final TimerWheel<Booking> wheel = new TimerWheel<>(TICK_MILLIS, WHEEL_SIZE, System.currentTimeMillis());
+
+    public void put(Booking hold) {
+        if (byId.putIfAbsent(hold.getId(), hold) == null) {
+            wheel.schedule(hold, hold.getHoldExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        }
+    }
+
+    // Released or converted into a booking; its wheel entry is skipped when it fires
+    public void remove(String holdId) {
+        byId.remove(holdId);
+    }
+
+    // Holds live in storage as of readAt; local ones created since then are kept. Returns the dropped ones.
+    public List<Booking> sync(List<Booking> live, LocalDateTime readAt) {
+        Set<String> ids = new HashSet<>();
+        for (Booking hold : live) {
+            ids.add(hold.getId());
+            put(hold);
+        }
+        List<Booking> dropped = new ArrayList<>();
+        byId.values().removeIf(hold -> {
+            boolean gone = !ids.contains(hold.getId()) && hold.getCreatedAt().isBefore(readAt);
+            if (gone) {
+                dropped.add(hold);
+            }
+            return gone;
+        });
+        return dropped;
+    }
+
+    // Holds whose deadline passed by nowMillis, dropped from the view
+    public List<Booking> expire(long nowMillis) {
+        List<Booking> expired = new ArrayList<>();
+        wheel.advance(nowMillis, hold -> {
+            if (byId.remove(hold.getId(), hold)) {
+                expired.add(hold);
+            }
+        });
+        return expired;
+    }
+
+    public int size() {
+        return byId.size();
+    }
+}
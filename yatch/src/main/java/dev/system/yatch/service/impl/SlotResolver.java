@@ -0,0 +1,116 @@
+package dev.system.yatch.service.impl;
+
+import dev.system.yatch.dto.common.TimeSlotDTO;
+import dev.system.yatch.entity.Yacht;
+import dev.system.yatch.entity.YachtDateOverride;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Precompiled slot lookup tables for one yacht.
+ * Built once per yacht version (see YachtCatalog) so every lookup is a hash hit,
+ * no matter how many date overrides the yacht has accumulated.
+ * Immutable, safe to share between threads.
+ */
+public final class SlotResolver {
+
+    private static final SlotResolver EMPTY = new SlotResolver(Map.of(), Map.of(), Map.of(), null, null);
+
+    // date -> slotId -> slot
+    private final Map<LocalDate, Map<String, TimeSlotDTO>> byDate;
+    // Default timeSlots by id
+    private final Map<String, TimeSlotDTO> defaults;
+    // Every slot used in an override of the window, by id (last-resort fallback)
+    private final Map<String, TimeSlotDTO> global;
+    // Dates whose overrides were loaded; null bounds = every date
+    private final LocalDate from;
+    private final LocalDate to;
+
+    private SlotResolver(Map<LocalDate, Map<String, TimeSlotDTO>> byDate,
+            Map<String, TimeSlotDTO> defaults,
+            Map<String, TimeSlotDTO> global,
+            LocalDate from, LocalDate to) {
+        this.byDate = byDate;
+        this.defaults = defaults;
+        this.global = global;
+        this.from = from;
+        this.to = to;
+    }
+
+    public static SlotResolver compile(Yacht yacht, List<YachtDateOverride> overrides) {
+        return compile(yacht, overrides, null, null);
+    }
+
+    // overrides: those dated from..to (inclusive)
+    public static SlotResolver compile(Yacht yacht, List<YachtDateOverride> overrides, LocalDate from, LocalDate to) {
+        if (yacht == null) {
+            return EMPTY;
+        }
+
+        Map<String, TimeSlotDTO> defaults = new HashMap<>();
+        List<TimeSlotDTO> defaultSlots = yacht.getTimeSlots() != null ? yacht.getTimeSlots() : List.of();
+        for (TimeSlotDTO slot : defaultSlots) {
+            if (slot != null && slot.getId() != null) {
+                defaults.putIfAbsent(slot.getId(), slot);
+            }
+        }
+
+        Map<LocalDate, Map<String, TimeSlotDTO>> byDate = new HashMap<>();
+        Map<String, TimeSlotDTO> global = new HashMap<>();
+        if (overrides != null) {
+            for (YachtDateOverride override : overrides) {
+                if (override == null || override.getDate() == null) {
+                    continue;
+                }
+                Map<String, TimeSlotDTO> daySlots = new HashMap<>();
+                if (override.getSlots() != null) {
+                    for (TimeSlotDTO slot : override.getSlots()) {
+                        if (slot != null && slot.getId() != null) {
+                            daySlots.putIfAbsent(slot.getId(), slot);
+                            global.putIfAbsent(slot.getId(), slot);
+                        }
+                    }
+                }
+                byDate.put(override.getDate(), daySlots);
+            }
+        }
+
+        return new SlotResolver(byDate, defaults, global, from, to);
+    }
+
+    // False for a date whose override may exist but was not loaded
+    public boolean covers(LocalDate date) {
+        return date == null || from == null || !date.isBefore(from) && !date.isAfter(to);
+    }
+
+    /**
+     * Same precedence as before: override for the date, then default slots,
+     * then any override slot with that id. Returns null when the slot is unknown.
+     */
+    public TimeSlotDTO resolve(LocalDate date, String slotId) {
+        if (slotId == null) {
+            return null;
+        }
+        if (date != null) {
+            Map<String, TimeSlotDTO> daySlots = byDate.get(date);
+            if (daySlots != null) {
+                TimeSlotDTO slot = daySlots.get(slotId);
+                if (slot != null) {
+                    return slot;
+                }
+            }
+        }
+        TimeSlotDTO slot = defaults.get(slotId);
+        return slot != null ? slot : global.get(slotId);
+    }
+
+    // Slots offered on a date (override replaces defaults for that day)
+    public Map<String, TimeSlotDTO> slotsOn(LocalDate date) {
+        Map<String, TimeSlotDTO> daySlots = date != null ? byDate.get(date) : null;
+        return Collections.unmodifiableMap(daySlots != null ? daySlots : defaults);
+    }
+}
@@ -0,0 +1,57 @@
+package dev.system.yatch.service.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timer wheel: scheduling is O(1) and each advance only visits the buckets of the
+ * ticks that passed, so expiry costs what actually expires instead of a scan of everything.
+ * Items due beyond one revolution stay in their bucket until the pass that reaches them.
+ * Cancellation is lazy: the callback decides whether an expired item still matters.
+ */
+final class TimerWheel<T> {
+
+    private record Entry<T>(T item, long deadlineTick) {
+    }
+
+    private final long tickMillis;
+    private final List<Queue<Entry<T>>> buckets;
+    private volatile long lastTick; // Last tick whose bucket was drained
+
+    TimerWheel(long tickMillis, int size, long nowMillis) {
+        this.tickMillis = tickMillis;
+        this.buckets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            buckets.add(new ConcurrentLinkedQueue<>());
+        }
+        this.lastTick = nowMillis / tickMillis;
+    }
+
+    void schedule(T item, long deadlineMillis) {
+        long tick = Math.max(Math.ceilDiv(deadlineMillis, tickMillis), lastTick + 1);
+        buckets.get((int) (tick % buckets.size())).add(new Entry<>(item, tick));
+    }
+
+    // Fires every item due by now; after a long pause each bucket is visited at most once
+    synchronized void advance(long nowMillis, Consumer<T> expire) {
+        long current = nowMillis / tickMillis;
+        for (long tick = Math.max(lastTick + 1, current - buckets.size() + 1); tick <= current; tick++) {
+            Queue<Entry<T>> bucket = buckets.get((int) (tick % buckets.size()));
+            for (int pending = bucket.size(); pending > 0; pending--) {
+                Entry<T> entry = bucket.poll();
+                if (entry == null) {
+                    break;
+                }
+                if (entry.deadlineTick() <= current) {
+                    expire.accept(entry.item());
+                } else {
+                    bucket.add(entry);
+                }
+            }
+        }
+        lastTick = Math.max(lastTick, current);
+    }
+}
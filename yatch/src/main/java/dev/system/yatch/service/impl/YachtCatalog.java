@@ -0,0 +1,70 @@
+package dev.system.yatch.service.impl;
+
+import dev.system.yatch.config.CacheConfig;
+import dev.system.yatch.entity.Yacht;
+import dev.system.yatch.repository.YachtDateOverrideRepository;
+import dev.system.yatch.repository.YachtRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Range;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Cached read side of the yacht catalog.
+ * Entities returned here are shared - read them, never mutate them.
+ * YachtServiceImpl evicts after every write.
+ */
+@Component
+public class YachtCatalog {
+
+    private final YachtRepository yachtRepository;
+    private final YachtDateOverrideRepository overrideRepository;
+    private final int windowDays;
+
+    public YachtCatalog(YachtRepository yachtRepository, YachtDateOverrideRepository overrideRepository,
+            @Value("${yatch.overrides.window-days:366}") int windowDays) {
+        this.yachtRepository = yachtRepository;
+        this.overrideRepository = overrideRepository;
+        this.windowDays = windowDays;
+    }
+
+    // Returns null when the yacht does not exist (misses are not cached)
+    @Cacheable(cacheNames = CacheConfig.YACHTS, key = "#id", unless = "#result == null")
+    public Yacht findById(String id) {
+        return yachtRepository.findById(id).orElse(null);
+    }
+
+    @Cacheable(cacheNames = CacheConfig.YACHT_CATALOG, key = "'all'")
+    public List<Yacht> findAll() {
+        return List.copyOf(yachtRepository.findAll());
+    }
+
+    // Compiled lookup tables (default slots + the overrides from yesterday to windowDays ahead),
+    // rebuilt after the yacht is evicted; one (yachtId, date) index range read, not the yacht's history
+    @Cacheable(cacheNames = CacheConfig.SLOT_RESOLVERS, key = "#yacht.id")
+    public SlotResolver resolverFor(Yacht yacht) {
+        LocalDate today = LocalDate.now();
+        return resolverFor(yacht, today.minusDays(1), today.plusDays(windowDays));
+    }
+
+    // Dates the cached resolver does not cover (SlotResolver.covers): read on demand, not cached
+    public SlotResolver resolverFor(Yacht yacht, LocalDate from, LocalDate to) {
+        return SlotResolver.compile(yacht,
+                overrideRepository.findByYachtIdAndDateBetweenOrderByDateAsc(yacht.getId(), Range.closed(from, to)),
+                from, to);
+    }
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.YACHTS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.SLOT_RESOLVERS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.YACHT_CATALOG, allEntries = true)
+    })
+    public void evict(String id) {
+        // Eviction handled by annotations
+    }
+}
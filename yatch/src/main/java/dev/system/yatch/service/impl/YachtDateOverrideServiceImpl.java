@@ -0,0 +1,224 @@
+package dev.system.yatch.service.impl;
+
+import dev.system.yatch.dto.common.TimeSlotDTO;
+import dev.system.yatch.dto.response.ChangeEvent;
+import dev.system.yatch.dto.response.DateOverrideResponse;
+import dev.system.yatch.dto.response.YachtResponse;
+import dev.system.yatch.entity.Yacht;
+import dev.system.yatch.entity.YachtDateOverride;
+import dev.system.yatch.repository.YachtDateOverrideRepository;
+import dev.system.yatch.service.YachtDateOverrideService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Range;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class YachtDateOverrideServiceImpl implements YachtDateOverrideService {
+
+    static final int MAX_RANGE_DAYS = 366;
+
+    private final YachtDateOverrideRepository overrideRepository;
+    private final MongoTemplate mongoTemplate;
+    private final YachtCatalog yachtCatalog;
+    private final ChangeEventPublisher changeEvents;
+
+    // Shape of a yacht document that still embeds its overrides
+    record LegacyYacht(@Id String id, Map<String, List<TimeSlotDTO>> dateOverrides) {
+    }
+
+    // Copies embedded overrides into yacht_date_overrides, then drops them from the yacht.
+    // Idempotent: the upsert is keyed by (yachtId, date), so a crash midway just repeats.
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateEmbeddedOverrides() {
+        Query legacy = new Query(Criteria.where("dateOverrides").exists(true));
+        legacy.fields().include("dateOverrides");
+
+        int yachts = 0;
+        int overrides = 0;
+        for (LegacyYacht yacht : mongoTemplate.find(legacy, LegacyYacht.class, "yachts")) {
+            if (yacht.dateOverrides() != null) {
+                for (Map.Entry<String, List<TimeSlotDTO>> entry : yacht.dateOverrides().entrySet()) {
+                    LocalDate date = parseDate(entry.getKey());
+                    if (date == null) {
+                        log.warn("Skipping override with invalid date '{}' on yacht {}", entry.getKey(), yacht.id());
+                        continue;
+                    }
+                    upsert(yacht.id(), date, entry.getValue());
+                    overrides++;
+                }
+            }
+            mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(yacht.id())),
+                    new Update().unset("dateOverrides"), Yacht.class);
+            yachtCatalog.evict(yacht.id());
+            yachts++;
+        }
+        if (yachts > 0) {
+            log.info("Moved {} date overrides of {} yachts into yacht_date_overrides", overrides, yachts);
+        }
+    }
+
+    @Override
+    public List<DateOverrideResponse> getOverrides(String yachtId, LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("from and to are required");
+        }
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("Date range is invalid (max " + MAX_RANGE_DAYS + " days)");
+        }
+
+        Range<LocalDate> dates = Range.closed(from, to);
+        List<YachtDateOverride> rows = yachtId != null
+                ? overrideRepository.findByYachtIdAndDateBetweenOrderByDateAsc(yachtId, dates)
+                : overrideRepository.findByDateBetweenOrderByDateAsc(dates);
+        return rows.stream().map(this::mapToResponse).collect(Collectors.toList());
+    }
+
+    @Override
+    public DateOverrideResponse putOverride(String yachtId, LocalDate date, List<TimeSlotDTO> slots) {
+        requireYacht(yachtId);
+        List<TimeSlotDTO> before = overrideRepository.findByYachtIdAndDate(yachtId, date)
+                .map(YachtDateOverride::getSlots)
+                .orElse(null);
+
+        YachtDateOverride saved = upsert(yachtId, date, slots != null ? slots : List.of());
+        yachtCatalog.evict(yachtId);
+        publish(yachtId, date, before, saved.getSlots());
+        return mapToResponse(saved);
+    }
+
+    @Override
+    public void deleteOverride(String yachtId, LocalDate date) {
+        List<TimeSlotDTO> before = overrideRepository.findByYachtIdAndDate(yachtId, date)
+                .map(YachtDateOverride::getSlots)
+                .orElse(null);
+        if (before == null) {
+            return;
+        }
+        overrideRepository.deleteByYachtIdAndDate(yachtId, date);
+        yachtCatalog.evict(yachtId);
+        publish(yachtId, date, before, null);
+    }
+
+    @Override
+    public void replaceAll(String yachtId, Map<String, List<TimeSlotDTO>> overrides) {
+        Map<LocalDate, List<TimeSlotDTO>> wanted = new HashMap<>();
+        overrides.forEach((key, slots) -> {
+            LocalDate date = parseDate(key);
+            if (date == null) {
+                throw new IllegalArgumentException("Override date is invalid: " + key);
+            }
+            wanted.put(date, slots != null ? slots : List.of());
+        });
+
+        if (wanted.isEmpty()) {
+            deleteAll(yachtId);
+            return;
+        }
+
+        // Diffed against the stored overrides between the first and last date sent (index range read);
+        // only dates that were removed or whose slots changed are written, dates outside are kept
+        Range<LocalDate> sent = Range.closed(Collections.min(wanted.keySet()), Collections.max(wanted.keySet()));
+        for (YachtDateOverride existing : overrideRepository.findByYachtIdAndDateBetweenOrderByDateAsc(yachtId, sent)) {
+            List<TimeSlotDTO> slots = wanted.get(existing.getDate());
+            if (slots == null) {
+                overrideRepository.delete(existing);
+            } else if (slots.equals(existing.getSlots())) {
+                wanted.remove(existing.getDate());
+            }
+        }
+        wanted.forEach((date, slots) -> upsert(yachtId, date, slots));
+        yachtCatalog.evict(yachtId);
+    }
+
+    @Override
+    public void deleteAll(String yachtId) {
+        overrideRepository.deleteByYachtId(yachtId);
+        yachtCatalog.evict(yachtId);
+    }
+
+    @Override
+    public List<YachtResponse> withDateOverrides(List<YachtResponse> yachts) {
+        List<String> ids = yachts.stream().map(YachtResponse::getId).collect(Collectors.toList());
+        Map<String, Map<String, List<TimeSlotDTO>>> byYacht = new HashMap<>();
+        for (YachtDateOverride row : overrideRepository.findByYachtIdIn(ids)) {
+            byYacht.computeIfAbsent(row.getYachtId(), k -> new TreeMap<>())
+                    .put(row.getDate().toString(), row.getSlots());
+        }
+        yachts.forEach(yacht -> yacht.setDateOverrides(byYacht.getOrDefault(yacht.getId(), Map.of())));
+        return yachts;
+    }
+
+    // ===== HELPER =====
+    private YachtDateOverride upsert(String yachtId, LocalDate date, List<TimeSlotDTO> slots) {
+        Query query = Query.query(Criteria.where("yachtId").is(yachtId).and("date").is(date));
+        Update update = new Update()
+                .set("slots", slots)
+                .set("updatedAt", LocalDateTime.now());
+        mongoTemplate.upsert(query, update, YachtDateOverride.class);
+        return YachtDateOverride.builder()
+                .yachtId(yachtId)
+                .date(date)
+                .slots(slots)
+                .build();
+    }
+
+    private void requireYacht(String yachtId) {
+        if (yachtId == null || yachtCatalog.findById(yachtId) == null) {
+            throw new RuntimeException("Yacht not found: " + yachtId);
+        }
+    }
+
+    // Sent as a yacht update whose changes hold just the touched date
+    private void publish(String yachtId, LocalDate date, List<TimeSlotDTO> before, List<TimeSlotDTO> after) {
+        Map<String, Object> previous = new LinkedHashMap<>();
+        previous.put("dateOverrides", singleDate(date, before));
+        Map<String, Object> next = new LinkedHashMap<>();
+        next.put("dateOverrides", singleDate(date, after));
+        changeEvents.updated(ChangeEvent.YACHT, yachtId, previous, next);
+    }
+
+    private Map<String, Object> singleDate(LocalDate date, List<TimeSlotDTO> slots) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put(date.toString(), slots != null ? new ArrayList<>(slots) : null);
+        return map;
+    }
+
+    private static LocalDate parseDate(String value) {
+        try {
+            return value != null ? LocalDate.parse(value) : null;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private DateOverrideResponse mapToResponse(YachtDateOverride override) {
+        return DateOverrideResponse.builder()
+                .yachtId(override.getYachtId())
+                .date(override.getDate())
+                .slots(override.getSlots())
+                .build();
+    }
+}
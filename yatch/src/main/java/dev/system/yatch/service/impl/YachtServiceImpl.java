@@ -1,40 +1,120 @@
 package dev.system.yatch.service.impl;
 
 import dev.system.yatch.dto.request.YachtRequest;
+import dev.system.yatch.dto.response.ChangeEvent;
 import dev.system.yatch.dto.response.YachtResponse;
 import dev.system.yatch.entity.Yacht;
 import dev.system.yatch.repository.YachtRepository;
+import dev.system.yatch.service.YachtDateOverrideService;
 import dev.system.yatch.service.YachtService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class YachtServiceImpl implements YachtService {
 
+    // ?fields= / view=summary on the yacht list
+    static final FieldSet<Yacht> FIELDS = new FieldSet<Yacht>("name", "capacity", "isActive", "yachtType")
+            .field("id", Yacht::getId)
+            .field("version", Yacht::getVersion)
+            .field("name", Yacht::getName)
+            .field("description", Yacht::getDescription)
+            .field("capacity", Yacht::getCapacity)
+            .field("isActive", Yacht::isActive)
+            .field("yachtType", Yacht::getYachtType)
+            .field("timeSlots", Yacht::getTimeSlots)
+            .field("createdAt", Yacht::getCreatedAt)
+            .field("updatedAt", Yacht::getUpdatedAt);
+
     private final YachtRepository yachtRepository;
+    private final MongoTemplate mongoTemplate;
+    private final YachtCatalog yachtCatalog;
+    private final ChangeEventPublisher changeEvents;
+    private final YachtDateOverrideService overrideService;
 
     @Override
     public List<YachtResponse> getAllYachts() {
-        return yachtRepository.findAll().stream()
-                .map(this::mapToResponse)
+        return yachtCatalog.findAll().stream()
+                .map(YachtServiceImpl::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
+    // The catalog already holds every yacht in memory, so the selection is applied there, not in Mongo
+    @Override
+    public List<Map<String, Object>> getYachtFields(String fields, String view) {
+        Set<String> selected = FIELDS.select(fields, view);
+        return yachtCatalog.findAll().stream()
+                .map(yacht -> FIELDS.render(yacht, selected))
                 .collect(Collectors.toList());
     }
 
     @Override
     public YachtResponse getYachtById(String id) {
-        Yacht yacht = yachtRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Yacht not found: " + id));
+        Yacht yacht = yachtCatalog.findById(id);
+        if (yacht == null) {
+            throw new RuntimeException("Yacht not found: " + id);
+        }
         return mapToResponse(yacht);
     }
 
     @Override
     public YachtResponse createYacht(YachtRequest request) {
-        Yacht yacht = Yacht.builder()
+        Yacht yacht = buildYacht(request);
+
+        Yacht saved = yachtRepository.save(yacht);
+        if (request.getDateOverrides() != null) {
+            overrideService.replaceAll(saved.getId(), request.getDateOverrides());
+        }
+        yachtCatalog.evict(saved.getId());
+        YachtResponse response = mapToResponse(saved);
+        changeEvents.created(ChangeEvent.YACHT, saved.getId(), response);
+        return response;
+    }
+
+    @Override
+    public YachtResponse updateYacht(String id, YachtRequest request, Long expectedVersion) {
+        // Only the requested fields are written, in one findAndModify
+        Update update = patchOf(request);
+        Yacht saved = mongoTemplate.findAndModify(Patches.byId(id, expectedVersion), update, Patches.returnNew(),
+                Yacht.class);
+        if (saved == null) {
+            throw missed(id, expectedVersion);
+        }
+        if (request.getDateOverrides() != null) {
+            overrideService.replaceAll(id, request.getDateOverrides());
+        }
+        yachtCatalog.evict(id);
+        YachtResponse response = mapToResponse(saved);
+        changeEvents.patched(ChangeEvent.YACHT, id, response, update);
+        return response;
+    }
+
+    @Override
+    public void deleteYacht(String id, Long expectedVersion) {
+        if (expectedVersion == null) {
+            yachtRepository.deleteById(id);
+        } else if (mongoTemplate.remove(Patches.byId(id, expectedVersion), Yacht.class).getDeletedCount() == 0
+                && yachtRepository.existsById(id)) {
+            throw Patches.versionMismatch("Yacht", id);
+        }
+        overrideService.deleteAll(id);
+        yachtCatalog.evict(id);
+        changeEvents.deleted(ChangeEvent.YACHT, id);
+    }
+
+    // ===== MAPPER =====
+    // Static and package-private: shared with ReactiveYachtServiceImpl
+    static Yacht buildYacht(YachtRequest request) {
+        return Yacht.builder()
                 .name(request.getName())
                 .description(request.getDescription())
                 .capacity(request.getCapacity())
@@ -42,59 +122,43 @@ public class YachtServiceImpl implements YachtService {
                 .yachtType(request.getYachtType() != null ? request.getYachtType()
                         : dev.system.yatch.enums.YachtType.REGULAR)
                 .timeSlots(request.getTimeSlots())
-                .dateOverrides(request.getDateOverrides())
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build();
-
-        return mapToResponse(yachtRepository.save(yacht));
     }
 
-    @Override
-    public YachtResponse updateYacht(String id, YachtRequest request) {
-        Yacht yacht = yachtRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Yacht not found: " + id));
-
-        // Update fields (Partial Update Check)
-        if (request.getName() != null)
-            yacht.setName(request.getName());
-        if (request.getDescription() != null)
-            yacht.setDescription(request.getDescription());
+    // $set of the non-null request fields (Partial Update Check)
+    static Update patchOf(YachtRequest request) {
+        Update update = new Update();
+        Patches.setIfPresent(update, "name", request.getName());
+        Patches.setIfPresent(update, "description", request.getDescription());
         if (request.getCapacity() != null && request.getCapacity() > 0)
-            yacht.setCapacity(request.getCapacity());
-
-        if (request.getIsActive() != null)
-            yacht.setActive(request.getIsActive());
-
-        if (request.getYachtType() != null)
-            yacht.setYachtType(request.getYachtType());
-
-        if (request.getTimeSlots() != null)
-            yacht.setTimeSlots(request.getTimeSlots());
-        if (request.getDateOverrides() != null)
-            yacht.setDateOverrides(request.getDateOverrides());
-
-        yacht.setUpdatedAt(LocalDateTime.now());
-
-        return mapToResponse(yachtRepository.save(yacht));
+            update.set("capacity", request.getCapacity());
+        Patches.setIfPresent(update, "isActive", request.getIsActive());
+        Patches.setIfPresent(update, "yachtType", request.getYachtType());
+        Patches.setIfPresent(update, "timeSlots", request.getTimeSlots());
+        // dateOverrides are stored per date (YachtDateOverrideService)
+        return Patches.bumpVersion(update.set("updatedAt", LocalDateTime.now()));
     }
 
-    @Override
-    public void deleteYacht(String id) {
-        yachtRepository.deleteById(id);
+    // A conditional write matched nothing: stale If-Match or missing yacht
+    private RuntimeException missed(String id, Long expectedVersion) {
+        if (expectedVersion != null && yachtRepository.existsById(id)) {
+            return Patches.versionMismatch("Yacht", id);
+        }
+        return new RuntimeException("Yacht not found: " + id);
     }
 
-    // ===== MAPPER =====
-    private YachtResponse mapToResponse(Yacht yacht) {
+    static YachtResponse mapToResponse(Yacht yacht) {
         return YachtResponse.builder()
                 .id(yacht.getId())
+                .version(yacht.getVersion())
                 .name(yacht.getName())
                 .description(yacht.getDescription())
                 .capacity(yacht.getCapacity())
                 .isActive(yacht.isActive())
                 .yachtType(yacht.getYachtType())
                 .timeSlots(yacht.getTimeSlots())
-                .dateOverrides(yacht.getDateOverrides())
                 .createdAt(yacht.getCreatedAt())
                 .updatedAt(yacht.getUpdatedAt())
                 .build();
@@ -0,0 +1,120 @@
+package dev.system.yatch.service.impl;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.result.UpdateResult;
+import dev.system.yatch.entity.ArchiveCheckpoint;
+import dev.system.yatch.entity.Booking;
+import dev.system.yatch.enums.BookingStatus;
+import dev.system.yatch.service.AvailabilityService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BookingArchiveServiceImplTest {
+
+    private static final LocalDate CUTOFF = LocalDate.of(2026, 1, 1);
+
+    private MongoTemplate mongoTemplate;
+    private AvailabilityService availabilityService;
+    private BulkOperations archiveBulk;
+    private BulkOperations hotBulk;
+    private BookingArchiveServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        availabilityService = mock(AvailabilityService.class);
+        archiveBulk = mock(BulkOperations.class);
+        hotBulk = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Booking.class, Booking.ARCHIVE_COLLECTION))
+                .thenReturn(archiveBulk);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Booking.class)).thenReturn(hotBulk);
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(ArchiveCheckpoint.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+        service = new BookingArchiveServiceImpl(mongoTemplate, availabilityService, 180, 500, Duration.ofMinutes(10));
+    }
+
+    // A run copied version 3 and died before the delete; the booking was then edited to version 4.
+    // The resumed run must leave version 4 in the archive, not keep the stale copy.
+    @Test
+    void resumedRunOverwritesCopyLeftByInterruptedRun() {
+        resumeCheckpoint();
+        Booking edited = settled("b1", 4L, "edited after the crash");
+        when(mongoTemplate.find(any(Query.class), eq(Booking.class))).thenReturn(List.of(edited), List.of());
+        BulkWriteResult deleted = mock(BulkWriteResult.class);
+        when(deleted.getDeletedCount()).thenReturn(1);
+        when(hotBulk.execute()).thenReturn(deleted);
+
+        assertEquals(1, service.archive().getMoved());
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Booking> copy = ArgumentCaptor.forClass(Booking.class);
+        ArgumentCaptor<FindAndReplaceOptions> options = ArgumentCaptor.forClass(FindAndReplaceOptions.class);
+        verify(archiveBulk).replaceOne(query.capture(), copy.capture(), options.capture());
+        verify(archiveBulk, never()).insert(any(List.class));
+        assertEquals("b1", query.getValue().getQueryObject().get("id"));
+        assertEquals(4L, copy.getValue().getVersion());
+        assertEquals("edited after the crash", copy.getValue().getNotes());
+        assertTrue(options.getValue().isUpsert());
+        verify(availabilityService).untrack("b1");
+    }
+
+    // A failed archive write is no longer taken for "already archived": the hot row stays
+    @Test
+    void archiveWriteErrorAbortsBeforeTheHotDelete() {
+        resumeCheckpoint();
+        when(mongoTemplate.find(any(Query.class), eq(Booking.class))).thenReturn(List.of(settled("b1", 4L, null)));
+        when(archiveBulk.execute()).thenThrow(new DataIntegrityViolationException("E11000 duplicate key"));
+
+        assertThrows(DataIntegrityViolationException.class, () -> service.archive());
+
+        verify(hotBulk, never()).execute();
+        verify(availabilityService, never()).untrack(any());
+    }
+
+    // ===== HELPER =====
+    private void resumeCheckpoint() {
+        ArchiveCheckpoint checkpoint = ArchiveCheckpoint.builder()
+                .id(BookingArchiveServiceImpl.CHECKPOINT_ID)
+                .cutoff(CUTOFF)
+                .archivedBefore(CUTOFF)
+                .startedAt(LocalDateTime.now().minusHours(1))
+                .owner("this-run")
+                .leaseUntil(LocalDateTime.now().plusMinutes(10))
+                .build();
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(ArchiveCheckpoint.class))).thenReturn(checkpoint);
+    }
+
+    private static Booking settled(String id, Long version, String notes) {
+        return Booking.builder()
+                .id(id)
+                .version(version)
+                .status(BookingStatus.USED)
+                .serviceDate(CUTOFF.minusDays(30))
+                .notes(notes)
+                .build();
+    }
+}
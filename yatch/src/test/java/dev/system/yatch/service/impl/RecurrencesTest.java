@@ -0,0 +1,105 @@
+package dev.system.yatch.service.impl;
+
+import dev.system.yatch.dto.request.BookingSeriesRequest;
+import dev.system.yatch.enums.RecurrenceFrequency;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RecurrencesTest {
+
+    private static final int MAX_DATES = 100;
+    // A Thursday
+    private static final LocalDate START = LocalDate.of(2026, 1, 1);
+
+    @Test
+    void weeklyByDayRunsAcrossWeekBoundaries() {
+        BookingSeriesRequest.Recurrence rule = rule(RecurrenceFrequency.WEEKLY, START)
+                .daysOfWeek(List.of(DayOfWeek.FRIDAY, DayOfWeek.MONDAY))
+                .count(5)
+                .build();
+
+        // The Monday of the start week is before the start date and is skipped
+        assertEquals(List.of(date(1, 2), date(1, 5), date(1, 9), date(1, 12), date(1, 16)), expand(rule));
+    }
+
+    @Test
+    void weeklyIntervalSkipsWholeWeeks() {
+        BookingSeriesRequest.Recurrence rule = rule(RecurrenceFrequency.WEEKLY, START)
+                .interval(2)
+                .daysOfWeek(List.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY))
+                .count(4)
+                .build();
+
+        assertEquals(List.of(date(1, 2), date(1, 12), date(1, 16), date(1, 26)), expand(rule));
+    }
+
+    @Test
+    void monthlyOnThe31stSkipsShortMonths() {
+        BookingSeriesRequest.Recurrence rule = rule(RecurrenceFrequency.MONTHLY, date(1, 31))
+                .count(4)
+                .build();
+
+        // Skipped months do not use up the count
+        assertEquals(List.of(date(1, 31), date(3, 31), date(5, 31), date(7, 31)), expand(rule));
+    }
+
+    @Test
+    void countStopsBeforeUntil() {
+        BookingSeriesRequest.Recurrence rule = rule(RecurrenceFrequency.DAILY, START)
+                .count(3)
+                .until(date(1, 10))
+                .build();
+
+        assertEquals(List.of(date(1, 1), date(1, 2), date(1, 3)), expand(rule));
+    }
+
+    @Test
+    void untilStopsBeforeCountAndIsInclusive() {
+        BookingSeriesRequest.Recurrence rule = rule(RecurrenceFrequency.DAILY, START)
+                .interval(2)
+                .count(10)
+                .until(date(1, 5))
+                .build();
+
+        assertEquals(List.of(date(1, 1), date(1, 3), date(1, 5)), expand(rule));
+    }
+
+    @Test
+    void untilOnlyRuleLongerThanTheLimitIsRejected() {
+        BookingSeriesRequest.Recurrence rule = rule(RecurrenceFrequency.DAILY, START)
+                .until(START.plusDays(MAX_DATES))
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> expand(rule));
+    }
+
+    @Test
+    void steppingPastLocalDateMaxIsRejected() {
+        for (RecurrenceFrequency frequency : RecurrenceFrequency.values()) {
+            BookingSeriesRequest.Recurrence rule = rule(frequency, LocalDate.MAX.minusDays(1))
+                    .count(5)
+                    .build();
+
+            assertThrows(IllegalArgumentException.class, () -> expand(rule), frequency.name());
+        }
+    }
+
+    // ===== HELPER =====
+    private static BookingSeriesRequest.Recurrence.RecurrenceBuilder rule(RecurrenceFrequency frequency, LocalDate start) {
+        return BookingSeriesRequest.Recurrence.builder().frequency(frequency).startDate(start);
+    }
+
+    private static List<LocalDate> expand(BookingSeriesRequest.Recurrence rule) {
+        return List.copyOf(Recurrences.expand(BookingSeriesRequest.builder().recurrence(rule).build(), MAX_DATES));
+    }
+
+    private static LocalDate date(int month, int day) {
+        return LocalDate.of(2026, month, day);
+    }
+}
@@ -0,0 +1,60 @@
+package dev.system.yatch.service.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimerWheelTest {
+
+    private static final long TICK = 1_000;
+    private static final int SIZE = 8; // one revolution = 8s
+
+    @Test
+    void entryDuePastOneRevolutionWaitsForItsDeadline() {
+        TimerWheel<String> wheel = new TimerWheel<>(TICK, SIZE, 0);
+        wheel.schedule("late", 10_000); // tick 10, same bucket as tick 2
+
+        assertTrue(advance(wheel, 2_000).isEmpty());
+        assertTrue(advance(wheel, 9_999).isEmpty());
+        assertEquals(List.of("late"), advance(wheel, 10_000));
+        assertTrue(advance(wheel, 20_000).isEmpty());
+    }
+
+    @Test
+    void advanceAfterALongPauseFiresEverythingDueOnce() {
+        TimerWheel<String> wheel = new TimerWheel<>(TICK, SIZE, 0);
+        List<String> due = new ArrayList<>();
+        for (int second = 1; second <= 20; second++) {
+            wheel.schedule("s" + second, second * TICK);
+            due.add("s" + second);
+        }
+        wheel.schedule("after", 105_000);
+
+        List<String> fired = advance(wheel, 100_000);
+        assertEquals(due.size(), fired.size());
+        assertTrue(fired.containsAll(due));
+
+        assertTrue(advance(wheel, 104_000).isEmpty());
+        assertEquals(List.of("after"), advance(wheel, 105_000));
+    }
+
+    @Test
+    void pastDeadlineFiresOnTheNextTick() {
+        TimerWheel<String> wheel = new TimerWheel<>(TICK, SIZE, 5_000);
+        wheel.schedule("overdue", 1_000);
+
+        assertTrue(advance(wheel, 5_500).isEmpty());
+        assertEquals(List.of("overdue"), advance(wheel, 6_000));
+    }
+
+    // ===== HELPER =====
+    private static List<String> advance(TimerWheel<String> wheel, long nowMillis) {
+        List<String> fired = new ArrayList<>();
+        wheel.advance(nowMillis, fired::add);
+        return fired;
+    }
+}